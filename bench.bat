@@ -0,0 +1,10 @@
+@echo off
+rem Builds the JMH module and passes all arguments to the JMH runner (-h lists them)
+call mvn -q -f bench\pom.xml package
+if %errorlevel% neq 0 (
+    echo Build failed!
+    pause
+    exit /b %errorlevel%
+)
+java -jar bench\target\benchmarks.jar %*
+pause
@@ -0,0 +1,90 @@
+package com.jobsphere.bench;
+
+import com.jobsphere.core.ApplicationRepository;
+import com.jobsphere.core.InMemoryApplicationRepository;
+import com.jobsphere.core.Job;
+import com.jobsphere.core.JobApplication;
+import com.jobsphere.core.Page;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class ApplicationRepositoryBenchmark {
+    private static final int JOBS_PER_PAGE_REQUEST = 20;
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    private List<JobApplication> applications;
+    private ApplicationRepository repository;
+    private String[] ids;
+    private String[] jobIds;
+    private String[] usernames;
+    private long next;
+
+    @Setup
+    public void setUp() {
+        int jobCount = Math.max(1, size / 10);
+        int applicants = Math.max(1, size / 5);
+        DataGenerator data = new DataGenerator(42);
+        List<Job> jobs = data.jobs(jobCount, Math.max(1, jobCount / 100));
+        applications = data.applications(size, jobs, applicants);
+        repository = new InMemoryApplicationRepository();
+        for (JobApplication application : applications) {
+            repository.add(application);
+        }
+        ids = new String[Math.min(size, 1 << 16)];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = applications.get(Probes.index(i, size)).getId();
+        }
+        jobIds = Probes.jobIds(jobCount);
+        usernames = Probes.applicantNames(applicants);
+    }
+
+    @Benchmark
+    public JobApplication findById() {
+        return repository.findById(ids[Probes.index(next++, ids.length)]);
+    }
+
+    @Benchmark
+    public List<JobApplication> findByJobId() {
+        return repository.findByJobId(jobIds[Probes.index(next++, jobIds.length)]);
+    }
+
+    @Benchmark
+    public List<JobApplication> findByUsername() {
+        return repository.findByUsername(usernames[Probes.index(next++, usernames.length)]);
+    }
+
+    @Benchmark
+    public JobApplication findByUsernameAndJobId() {
+        JobApplication application = applications.get(Probes.index(next++, size));
+        return repository.findByUsernameAndJobId(application.getApplicantUsername(), application.getJob().getId());
+    }
+
+    @Benchmark
+    public Page<JobApplication> findByJobIdsPage() {
+        int from = Probes.index(next++, Math.max(1, jobIds.length - JOBS_PER_PAGE_REQUEST));
+        List<String> selection = Arrays.asList(jobIds).subList(from, Math.min(from + JOBS_PER_PAGE_REQUEST, jobIds.length));
+        return repository.findByJobIds(selection, 0, PAGE_SIZE);
+    }
+}
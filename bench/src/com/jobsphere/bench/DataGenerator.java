@@ -0,0 +1,123 @@
+package com.jobsphere.bench;
+
+import com.jobsphere.core.Job;
+import com.jobsphere.core.JobApplication;
+import com.jobsphere.core.User;
+import com.jobsphere.core.UserFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic records for benchmarks. The same seed and counts
+ * always produce the same users, jobs and applications, so runs made before
+ * and after a change see identical data.
+ */
+public class DataGenerator {
+    static final String[] SKILLS = {
+            "java", "python", "sql", "kotlin", "scala", "go", "rust", "javascript", "typescript", "react",
+            "angular", "spring", "hibernate", "kafka", "spark", "hadoop", "docker", "kubernetes", "aws", "azure",
+            "gcp", "terraform", "linux", "networking", "security", "testing", "selenium", "graphql", "rest", "grpc",
+            "postgres", "mysql", "mongodb", "redis", "elasticsearch", "swing", "android", "ios", "swift", "figma",
+            "excel", "tableau", "statistics", "pytorch", "tensorflow", "nlp", "agile", "scrum", "jira", "leadership"
+    };
+    static final String[] ROLES = {
+            "Engineer", "Developer", "Analyst", "Architect", "Consultant", "Administrator", "Designer", "Scientist",
+            "Tester", "Manager"
+    };
+    static final String[] LEVELS = {"Junior", "Mid-level", "Senior", "Staff", "Principal", "Lead"};
+    static final String PASSWORD = "benchmark-password";
+
+    private final long seed;
+
+    public DataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public static String companyName(int i) {
+        return "company-" + i;
+    }
+
+    public static String applicantName(int i) {
+        return "applicant-" + i;
+    }
+
+    public static String jobId(int i) {
+        return "job-" + i;
+    }
+
+    public List<User> companies(int count) {
+        List<User> companies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            companies.add(UserFactory.createUser("COMPANY", companyName(i), PASSWORD, companyName(i) + "@example.com"));
+        }
+        return companies;
+    }
+
+    /**
+     * Applicants whose stored password is {@code storedPassword}, typically a
+     * hash shared by every account to keep generation cheap.
+     */
+    public List<User> applicants(int count, String storedPassword) {
+        List<User> applicants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            applicants.add(UserFactory.createUser("APPLICANT", applicantName(i), storedPassword,
+                    applicantName(i) + "@example.com"));
+        }
+        return applicants;
+    }
+
+    /**
+     * Jobs spread evenly over {@code companies} companies; one in ten is
+     * inactive.
+     */
+    public List<Job> jobs(int count, int companies) {
+        Random random = new Random(seed);
+        List<Job> jobs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String skill = pick(random, SKILLS);
+            String title = pick(random, LEVELS) + " " + capitalize(skill) + " " + pick(random, ROLES);
+            String requirements = skill + ", " + pick(random, SKILLS) + ", " + pick(random, SKILLS);
+            String description = "We are hiring a " + title.toLowerCase() + " to work with " + pick(random, SKILLS)
+                    + " and " + pick(random, SKILLS) + " on our " + pick(random, SKILLS) + " platform.";
+            Job job = new Job(jobId(i), title, description, companyName(i % companies), requirements);
+            if (i % 10 == 9) {
+                job.setActive(false);
+            }
+            jobs.add(job);
+        }
+        return jobs;
+    }
+
+    /**
+     * Applications from {@code applicants} applicants, each to a job chosen
+     * at random from {@code jobs}.
+     */
+    public List<JobApplication> applications(int count, List<Job> jobs, int applicants) {
+        Random random = new Random(seed + 1);
+        List<JobApplication> applications = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Job job = jobs.get(random.nextInt(jobs.size()));
+            applications.add(new JobApplication(applicantName(i % applicants), job, "resumes/" + i + ".txt"));
+        }
+        return applications;
+    }
+
+    /**
+     * A one- or two-word search query drawn from the same vocabulary as the
+     * jobs.
+     */
+    public static String query(Random random) {
+        String skill = pick(random, SKILLS);
+        return random.nextInt(3) == 0 ? skill + " " + pick(random, ROLES).toLowerCase() : skill;
+    }
+
+    static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,92 @@
+package com.jobsphere.bench;
+
+import com.jobsphere.core.InMemoryJobRepository;
+import com.jobsphere.core.Job;
+import com.jobsphere.core.JobRepository;
+import com.jobsphere.core.Page;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class JobRepositoryBenchmark {
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    private int companies;
+    private List<Job> jobs;
+    private String[] titles;
+    private String[] ids;
+    private JobRepository repository;
+    private long next;
+
+    @Setup
+    public void setUp() {
+        companies = Math.max(1, size / 100);
+        jobs = new DataGenerator(42).jobs(size, companies);
+        repository = new InMemoryJobRepository();
+        for (Job job : jobs) {
+            repository.add(job);
+        }
+        titles = jobs.stream().map(Job::getTitle).toArray(String[]::new);
+        ids = Probes.jobIds(size);
+    }
+
+    @Benchmark
+    public Job findById() {
+        return repository.findById(ids[Probes.index(next++, ids.length)]);
+    }
+
+    @Benchmark
+    public Page<Job> findAllPage() {
+        return repository.findAll(Probes.index(next++, Math.max(1, size - PAGE_SIZE)), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Job> findByCompany() {
+        return repository.findByCompany(DataGenerator.companyName(Probes.index(next++, companies)));
+    }
+
+    @Benchmark
+    public List<Job> findActive() {
+        return repository.findActive();
+    }
+
+    @Benchmark
+    public Job updateTitle() {
+        long i = next++;
+        int index = Probes.index(i, size);
+        Job job = jobs.get(index);
+        job.setTitle((i & 1) == 0 ? titles[index] + " II" : titles[index]);
+        return job;
+    }
+
+    // Adds and removes one extra job so the repository stays at `size`
+    @Benchmark
+    public Job addRemove() {
+        Job template = jobs.get(0);
+        Job job = new Job("extra-" + next++, template.getTitle(), template.getDescription(),
+                template.getCompanyUsername(), template.getRequirements());
+        repository.add(job);
+        repository.remove(job.getId());
+        return job;
+    }
+}
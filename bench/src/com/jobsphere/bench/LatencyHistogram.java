@@ -0,0 +1,95 @@
+package com.jobsphere.bench;
+
+import java.util.Arrays;
+
+/**
+ * Log-linear histogram of nanosecond latencies in the style of
+ * HdrHistogram: values are grouped into power-of-two buckets, each split
+ * into 1024 linear sub-buckets, so every recorded value is kept to three
+ * significant digits in a fixed 280 KB no matter how many samples arrive.
+ * Values above about 2.4 hours are clamped. Not thread-safe; give each
+ * thread its own and merge them with add.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_HALF_MAGNITUDE = 10;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_HALF_MAGNITUDE;
+    private static final long SUB_BUCKET_MASK = (SUB_BUCKET_HALF_COUNT << 1) - 1;
+    private static final int LEADING_ZERO_BASE = 64 - SUB_BUCKET_HALF_MAGNITUDE - 1;
+    private static final long MAX_VALUE = (1L << 43) - 1;
+
+    private final long[] counts = new long[index(MAX_VALUE) + 1];
+    private long totalCount;
+    private long max;
+    private double sum;
+
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        counts[index(value)]++;
+        totalCount++;
+        sum += value;
+        max = Math.max(max, value);
+    }
+
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        max = 0;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return totalCount == 0 ? 0 : sum / totalCount;
+    }
+
+    /**
+     * The smallest recorded value (to histogram precision) that at least
+     * {@code percentile} percent of samples do not exceed.
+     */
+    public long valueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    private static int index(long value) {
+        int bucket = LEADING_ZERO_BASE - Long.numberOfLeadingZeros(value | SUB_BUCKET_MASK);
+        int subBucket = (int) (value >>> bucket);
+        return ((bucket + 1) << SUB_BUCKET_HALF_MAGNITUDE) + (subBucket - SUB_BUCKET_HALF_COUNT);
+    }
+
+    private static long highestEquivalentValue(int index) {
+        int bucket = (index >> SUB_BUCKET_HALF_MAGNITUDE) - 1;
+        int subBucket = (index & (SUB_BUCKET_HALF_COUNT - 1)) + SUB_BUCKET_HALF_COUNT;
+        if (bucket < 0) {
+            bucket = 0;
+            subBucket -= SUB_BUCKET_HALF_COUNT;
+        }
+        return ((long) subBucket << bucket) + (1L << bucket) - 1;
+    }
+}
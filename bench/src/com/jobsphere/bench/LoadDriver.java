@@ -0,0 +1,176 @@
+package com.jobsphere.bench;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a workload on many threads and reports latency percentiles per
+ * operation.
+ *
+ * Closed loop: each thread issues its next operation as soon as the last one
+ * returns, so the measured latency is service time and throughput finds its
+ * own level. Open loop: operations are scheduled at a fixed total rate
+ * whether or not earlier ones have finished, and latency is measured from
+ * the scheduled start. When the system falls behind, the queueing delay
+ * shows up in the percentiles instead of being hidden by a slower send rate
+ * (the "coordinated omission" problem).
+ */
+public class LoadDriver {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Workload workload;
+    private final int threads;
+    private final long warmupNanos;
+    private final long durationNanos;
+    private final double targetRate;
+
+    /**
+     * @param targetRate total operations per second for an open loop, or 0
+     *                   for a closed loop
+     */
+    public LoadDriver(Workload workload, int threads, long warmupMillis, long durationMillis, double targetRate) {
+        this.workload = workload;
+        this.threads = threads;
+        this.warmupNanos = warmupMillis * 1_000_000L;
+        this.durationNanos = durationMillis * 1_000_000L;
+        this.targetRate = targetRate;
+    }
+
+    public void run() {
+        long start = System.nanoTime() + 100_000_000L;
+        long measureFrom = start + warmupNanos;
+        long end = measureFrom + durationNanos;
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Worker worker = new Worker(i, start, measureFrom, end);
+            workers.add(worker);
+            worker.thread.start();
+        }
+        for (Worker worker : workers) {
+            try {
+                worker.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        report(workers);
+    }
+
+    private void report(List<Worker> workers) {
+        Map<Workload.Operation, LatencyHistogram> merged = new EnumMap<>(Workload.Operation.class);
+        Map<Workload.Operation, Long> errors = new EnumMap<>(Workload.Operation.class);
+        Map<Workload.Operation, String> firstErrors = new EnumMap<>(Workload.Operation.class);
+        LatencyHistogram total = new LatencyHistogram();
+        long totalErrors = 0;
+        for (Worker worker : workers) {
+            for (Map.Entry<Workload.Operation, LatencyHistogram> e : worker.histograms.entrySet()) {
+                merged.computeIfAbsent(e.getKey(), k -> new LatencyHistogram()).add(e.getValue());
+                total.add(e.getValue());
+            }
+            for (Map.Entry<Workload.Operation, Long> e : worker.errors.entrySet()) {
+                errors.merge(e.getKey(), e.getValue(), Long::sum);
+                totalErrors += e.getValue();
+            }
+            for (Map.Entry<Workload.Operation, String> e : worker.firstErrors.entrySet()) {
+                firstErrors.putIfAbsent(e.getKey(), e.getValue());
+            }
+        }
+
+        double seconds = durationNanos / 1e9;
+        System.out.println();
+        System.out.println(String.format("%s loop, %d threads, %.0f s measured%s", targetRate > 0 ? "Open" : "Closed",
+                threads, seconds, targetRate > 0 ? String.format(", target %,.0f ops/s", targetRate) : ""));
+        System.out.println(String.format("%-18s %10s %12s %8s %10s %10s %10s %10s %10s %10s", "operation", "count",
+                "ops/s", "errors", "mean", "p50", "p90", "p99", "p99.9", "max"));
+        for (Map.Entry<Workload.Operation, LatencyHistogram> e : merged.entrySet()) {
+            System.out.println(row(e.getKey().name().toLowerCase(), e.getValue(), errors.getOrDefault(e.getKey(), 0L), seconds));
+        }
+        System.out.println(row("total", total, totalErrors, seconds));
+        for (Map.Entry<Workload.Operation, String> e : firstErrors.entrySet()) {
+            System.out.println("[Load] First " + e.getKey().name().toLowerCase() + " error: " + e.getValue());
+        }
+    }
+
+    private static String row(String name, LatencyHistogram histogram, long errors, double seconds) {
+        StringBuilder row = new StringBuilder(String.format("%-18s %10d %12s %8d %10s", name,
+                histogram.getTotalCount(), String.format("%,.0f", histogram.getTotalCount() / seconds), errors,
+                formatNanos(histogram.getMean())));
+        for (double percentile : PERCENTILES) {
+            row.append(String.format(" %10s", formatNanos(histogram.valueAtPercentile(percentile))));
+        }
+        row.append(String.format(" %10s", formatNanos(histogram.getMax())));
+        return row.toString();
+    }
+
+    private static String formatNanos(double nanos) {
+        if (nanos >= 1e9) {
+            return String.format("%.2f s", nanos / 1e9);
+        }
+        if (nanos >= 1e6) {
+            return String.format("%.2f ms", nanos / 1e6);
+        }
+        if (nanos >= 1e3) {
+            return String.format("%.2f us", nanos / 1e3);
+        }
+        return String.format("%.1f ns", nanos);
+    }
+
+    private final class Worker implements Runnable {
+        final Thread thread;
+        final Workload.Client client;
+        final Map<Workload.Operation, LatencyHistogram> histograms = new EnumMap<>(Workload.Operation.class);
+        final Map<Workload.Operation, Long> errors = new EnumMap<>(Workload.Operation.class);
+        final Map<Workload.Operation, String> firstErrors = new EnumMap<>(Workload.Operation.class);
+        private final long start;
+        private final long measureFrom;
+        private final long end;
+        private final int index;
+
+        Worker(int index, long start, long measureFrom, long end) {
+            this.index = index;
+            this.start = start;
+            this.measureFrom = measureFrom;
+            this.end = end;
+            this.client = workload.newClient(index);
+            this.thread = new Thread(this, "load-" + index);
+        }
+
+        @Override
+        public void run() {
+            long interval = targetRate > 0 ? (long) (threads * 1e9 / targetRate) : 0;
+            // Stagger open-loop threads so their schedules interleave
+            long scheduled = start + interval * index / threads;
+            while (true) {
+                long now = System.nanoTime();
+                while (now < scheduled) {
+                    LockSupport.parkNanos(scheduled - now);
+                    now = System.nanoTime();
+                }
+                long begin = interval > 0 ? scheduled : now;
+                if (begin >= end) {
+                    return;
+                }
+                Workload.Operation operation = workload.nextOperation(client.random);
+                boolean failed = false;
+                try {
+                    operation = workload.execute(operation, client);
+                } catch (RuntimeException e) {
+                    failed = true;
+                    firstErrors.putIfAbsent(operation, e.toString());
+                }
+                long latency = System.nanoTime() - begin;
+                if (begin >= measureFrom) {
+                    histograms.computeIfAbsent(operation, k -> new LatencyHistogram()).record(latency);
+                    if (failed) {
+                        errors.merge(operation, 1L, Long::sum);
+                    }
+                }
+                scheduled += interval;
+            }
+        }
+    }
+}
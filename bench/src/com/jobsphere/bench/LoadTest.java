@@ -0,0 +1,75 @@
+package com.jobsphere.bench;
+
+import com.jobsphere.core.DataManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * Populates a DataManager with a synthetic user base and drives a traffic
+ * mix against it:
+ *
+ * <pre>
+ * java -cp bin com.jobsphere.bench.LoadTest --threads 16 --duration 60
+ * java -cp bin com.jobsphere.bench.LoadTest --rate 2000 --mix search=70,view_job=30
+ * </pre>
+ *
+ * Options: --companies 100  --jobs-per-company 50  --applicants 10000  --zipf 1.0
+ * --mix search=40,view_job=25,validate_session=15,login=5,apply=8,review=5,post_job=2
+ * --threads 8  --warmup 10 (s)  --duration 30 (s)  --rate 0 (ops/s; 0 runs a closed loop)
+ * --password-iterations 10000  --seed 42  --data-dir DIR (default: a new temporary directory)
+ */
+public class LoadTest {
+
+    public static void main(String[] args) {
+        Map<String, String> options = Options.parse(args);
+        Workload.Config config = new Workload.Config();
+        config.companies = Integer.parseInt(options.getOrDefault("companies", String.valueOf(config.companies)));
+        config.jobsPerCompany = Integer.parseInt(options.getOrDefault("jobs-per-company",
+                String.valueOf(config.jobsPerCompany)));
+        config.applicants = Integer.parseInt(options.getOrDefault("applicants", String.valueOf(config.applicants)));
+        config.zipfExponent = Double.parseDouble(options.getOrDefault("zipf", String.valueOf(config.zipfExponent)));
+        config.seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(config.seed)));
+        if (options.containsKey("mix")) {
+            config.mix.clear();
+            for (String entry : options.get("mix").split(",")) {
+                String[] parts = entry.split("=");
+                config.mix.put(Workload.Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+            }
+        }
+        int threads = Integer.parseInt(options.getOrDefault("threads", "8"));
+        long warmupMillis = Long.parseLong(options.getOrDefault("warmup", "10")) * 1000;
+        long durationMillis = Long.parseLong(options.getOrDefault("duration", "30")) * 1000;
+        double rate = Double.parseDouble(options.getOrDefault("rate", "0"));
+
+        // DataManager reads these once, when it is first created
+        Path dataDir = options.containsKey("data-dir") ? Paths.get(options.get("data-dir")) : createTempDirectory();
+        System.setProperty("jobsphere.dataDir", dataDir.resolve("data").toString());
+        System.setProperty("jobsphere.resumeDir", dataDir.resolve("resumes").toString());
+        System.setProperty("jobsphere.passwordIterations", options.getOrDefault("password-iterations", "10000"));
+        System.out.println("[Load] Data directory: " + dataDir.toAbsolutePath());
+
+        long started = System.nanoTime();
+        DataManager dataManager = DataManager.getInstance();
+        Workload workload = new Workload(config, dataManager);
+        workload.populate(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        System.out.println(String.format("[Load] Populated %d companies, %d jobs and %d applicants in %.1f s",
+                config.companies, config.companies * config.jobsPerCompany, config.applicants,
+                (System.nanoTime() - started) / 1e9));
+
+        new LoadDriver(workload, threads, warmupMillis, durationMillis, rate).run();
+        System.exit(0);
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("jobsphere-load");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
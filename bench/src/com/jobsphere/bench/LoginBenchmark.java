@@ -0,0 +1,80 @@
+package com.jobsphere.bench;
+
+import com.jobsphere.core.InMemoryUserRepository;
+import com.jobsphere.core.LoginProxy;
+import com.jobsphere.core.LoginService;
+import com.jobsphere.core.PasswordHasher;
+import com.jobsphere.core.RealLoginService;
+import com.jobsphere.core.User;
+import com.jobsphere.core.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Successful logins through LoginProxy. "cached" is a repeat login served
+ * from the hasher's verification cache; "pbkdf2" runs the full derivation at
+ * {@code cost} iterations, which is what a cold login costs at that setting.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class LoginBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({"10000", "100000", "310000"})
+    int cost;
+
+    private PasswordHasher cachingHasher;
+    private PasswordHasher uncachedHasher;
+    private LoginService cached;
+    private LoginService uncached;
+    private String[] usernames;
+    private long next;
+
+    @Setup
+    public void setUp() {
+        cachingHasher = new PasswordHasher(cost, 1, 16);
+        uncachedHasher = new PasswordHasher(cost, 1, 16, 0);
+        // Every account shares one hash; generating a million at full cost would take hours
+        UserRepository users = new InMemoryUserRepository();
+        for (User applicant : new DataGenerator(42).applicants(size, cachingHasher.hash(DataGenerator.PASSWORD))) {
+            users.add(applicant);
+        }
+        cached = new LoginProxy(new RealLoginService(users, cachingHasher));
+        uncached = new LoginProxy(new RealLoginService(users, uncachedHasher));
+        usernames = Probes.applicantNames(size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        cachingHasher.shutdown();
+        uncachedHasher.shutdown();
+    }
+
+    @Benchmark
+    public User cached() {
+        return cached.login(usernames[Probes.index(next++, usernames.length)], DataGenerator.PASSWORD);
+    }
+
+    @Benchmark
+    public User pbkdf2() {
+        return uncached.login(usernames[Probes.index(next++, usernames.length)], DataGenerator.PASSWORD);
+    }
+}
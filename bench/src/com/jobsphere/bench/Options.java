@@ -0,0 +1,24 @@
+package com.jobsphere.bench;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parses the {@code --option value} pairs taken by LoadTest and StressCheck.
+ */
+final class Options {
+
+    private Options() {
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --option value, got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,192 @@
+package com.jobsphere.bench;
+
+import com.jobsphere.core.InMemoryApplicationRepository;
+import com.jobsphere.core.InMemoryJobRepository;
+import com.jobsphere.core.InMemoryUserRepository;
+import com.jobsphere.core.Job;
+import com.jobsphere.core.JobApplication;
+import com.jobsphere.core.Journal;
+import com.jobsphere.core.PersistenceEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Journal appends, snapshots and recovery against temporary directories.
+ * The stored data set is {@code size} jobs plus {@code size} applications.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx8g")
+public class PersistenceBenchmark {
+    // Pipelined appends wait for durability once per this many records
+    private static final int PIPELINE_DEPTH = 256;
+
+    @State(Scope.Benchmark)
+    public static class JournalState {
+        private final byte[] payload = "job-123456|Senior Java Engineer|true".getBytes(StandardCharsets.UTF_8);
+        private Path dir;
+        private Journal journal;
+        private CompletableFuture<Void> last = CompletableFuture.completedFuture(null);
+        private long next;
+
+        @Setup
+        public void setUp() {
+            dir = createTempDirectory();
+            journal = new Journal(dir, 0);
+        }
+
+        @TearDown
+        public void tearDown() {
+            last.join();
+            journal.close();
+            deleteRecursively(dir);
+        }
+    }
+
+    // A store holding the data set; the engine stays open for snapshots
+    @State(Scope.Benchmark)
+    public static class StoreState {
+        @Param({"1000", "100000", "1000000"})
+        int size;
+
+        private Path dir;
+        private PersistenceEngine engine;
+
+        @Setup
+        public void setUp() {
+            dir = createTempDirectory();
+            engine = openLoaded(dir, size);
+        }
+
+        @TearDown
+        public void tearDown() {
+            engine.close();
+            deleteRecursively(dir);
+        }
+    }
+
+    // A closed store holding the data set in one snapshot
+    @State(Scope.Benchmark)
+    public static class RecoveryState {
+        @Param({"1000", "100000", "1000000"})
+        int size;
+
+        private Path dir;
+
+        @Setup
+        public void setUp() {
+            dir = createTempDirectory();
+            PersistenceEngine engine = openLoaded(dir, size);
+            engine.snapshot();
+            engine.close();
+        }
+
+        @TearDown
+        public void tearDown() {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Benchmark
+    public Void appendDurable(JournalState state) {
+        return state.journal.append(state.payload).join();
+    }
+
+    @Benchmark
+    public CompletableFuture<Void> appendPipelined(JournalState state) {
+        state.last = state.journal.append(state.payload);
+        if (state.next++ % PIPELINE_DEPTH == PIPELINE_DEPTH - 1) {
+            state.last.join();
+        }
+        return state.last;
+    }
+
+    @Benchmark
+    public PersistenceEngine snapshot(StoreState state) {
+        state.engine.snapshot();
+        return state.engine;
+    }
+
+    @Benchmark
+    public PersistenceEngine recover(RecoveryState state) {
+        PersistenceEngine recovered = open(state.dir, new InMemoryJobRepository(), new InMemoryApplicationRepository());
+        recovered.close();
+        return recovered;
+    }
+
+    private static PersistenceEngine open(Path dir, InMemoryJobRepository jobs,
+                                          InMemoryApplicationRepository applications) {
+        // Snapshots are taken explicitly, never mid-load
+        PersistenceEngine engine = new PersistenceEngine(dir, new InMemoryUserRepository(),
+                jobs, applications, Integer.MAX_VALUE);
+        engine.recover();
+        return engine;
+    }
+
+    // Records go straight to the engine so the load can pipeline them; the
+    // journaled repositories would wait out one fsync per record
+    private static PersistenceEngine openLoaded(Path dir, int size) {
+        InMemoryJobRepository jobs = new InMemoryJobRepository();
+        InMemoryApplicationRepository applications = new InMemoryApplicationRepository();
+        PersistenceEngine engine = open(dir, jobs, applications);
+        DataGenerator data = new DataGenerator(42);
+        List<Job> generated = data.jobs(size, Math.max(1, size / 100));
+        CompletableFuture<Void> last = CompletableFuture.completedFuture(null);
+        for (int i = 0; i < generated.size(); i++) {
+            jobs.add(generated.get(i));
+            last = engine.jobAdded(generated.get(i));
+            if (i % PIPELINE_DEPTH == PIPELINE_DEPTH - 1) {
+                last.join();
+            }
+        }
+        List<JobApplication> generatedApplications = data.applications(size, generated, Math.max(1, size / 5));
+        for (int i = 0; i < generatedApplications.size(); i++) {
+            applications.add(generatedApplications.get(i));
+            last = engine.applicationAdded(generatedApplications.get(i));
+            if (i % PIPELINE_DEPTH == PIPELINE_DEPTH - 1) {
+                last.join();
+            }
+        }
+        last.join();
+        return engine;
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("jobsphere-bench");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteRecursively(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            System.out.println("[Bench] Could not delete " + dir + ": " + e.getMessage());
+        }
+    }
+}
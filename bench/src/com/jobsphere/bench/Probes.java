@@ -0,0 +1,34 @@
+package com.jobsphere.bench;
+
+/**
+ * Lookup keys for benchmarks. Invocation counters are scrambled into
+ * indexes so consecutive operations touch unrelated records instead of
+ * walking memory in order.
+ */
+final class Probes {
+    private static final int MAX_PROBES = 1 << 16;
+
+    private Probes() {
+    }
+
+    static int index(long i, int bound) {
+        long mixed = (i + 1) * 0x9E3779B97F4A7C15L;
+        return (int) ((mixed >>> 1) % bound);
+    }
+
+    static String[] jobIds(int size) {
+        String[] ids = new String[Math.min(size, MAX_PROBES)];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = DataGenerator.jobId(index(i, size));
+        }
+        return ids;
+    }
+
+    static String[] applicantNames(int applicants) {
+        String[] names = new String[Math.min(applicants, MAX_PROBES)];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = DataGenerator.applicantName(index(i, applicants));
+        }
+        return names;
+    }
+}
@@ -0,0 +1,82 @@
+package com.jobsphere.bench;
+
+import com.jobsphere.core.CompressedBitmap;
+import com.jobsphere.core.FacetIndex;
+import com.jobsphere.core.InMemoryJobRepository;
+import com.jobsphere.core.InvertedIndexSearchStrategy;
+import com.jobsphere.core.Job;
+import com.jobsphere.core.KeywordSearchStrategy;
+import com.jobsphere.core.SearchStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+    private static final int QUERIES = 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    private int companies;
+    private List<Job> activeJobs;
+    private String[] queries;
+    private SearchStrategy keyword;
+    private SearchStrategy invertedIndex;
+    private FacetIndex facets;
+    private long next;
+
+    @Setup
+    public void setUp() {
+        companies = Math.max(1, size / 100);
+        InMemoryJobRepository repository = new InMemoryJobRepository();
+        for (Job job : new DataGenerator(42).jobs(size, companies)) {
+            repository.add(job);
+        }
+        activeJobs = repository.findActive();
+        Random random = new Random(size);
+        queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = DataGenerator.query(random);
+        }
+        keyword = new KeywordSearchStrategy();
+        invertedIndex = new InvertedIndexSearchStrategy(repository.getSearchIndex(), repository);
+        facets = repository.getFacetIndex();
+    }
+
+    @Benchmark
+    public List<Job> keyword() {
+        return keyword.search(activeJobs, queries[Probes.index(next++, QUERIES)]);
+    }
+
+    @Benchmark
+    public List<Job> invertedIndex() {
+        return invertedIndex.search(activeJobs, queries[Probes.index(next++, QUERIES)]);
+    }
+
+    @Benchmark
+    public CompressedBitmap facetSelect() {
+        long i = next++;
+        return facets.select(Map.of(
+                FacetIndex.COMPANY, DataGenerator.companyName(Probes.index(i, companies)),
+                FacetIndex.REQUIREMENT, DataGenerator.SKILLS[Probes.index(i, DataGenerator.SKILLS.length)]));
+    }
+}
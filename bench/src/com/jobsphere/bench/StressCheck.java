@@ -0,0 +1,305 @@
+package com.jobsphere.bench;
+
+import com.jobsphere.core.FacetIndex;
+import com.jobsphere.core.InMemoryApplicationRepository;
+import com.jobsphere.core.InMemoryJobRepository;
+import com.jobsphere.core.Job;
+import com.jobsphere.core.JobApplication;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Hammers the in-memory repositories from many threads, then checks that the
+ * primary map and every secondary index describe the same records:
+ *
+ * <pre>
+ * java -cp bin com.jobsphere.bench.StressCheck --threads 8 --operations 200000
+ * </pre>
+ *
+ * Job threads add, remove, retitle, activate and deactivate jobs drawn from a
+ * small id pool so that they collide constantly. Application threads add
+ * applications and advance or reject them. Exits with status 1 on any
+ * mismatch.
+ *
+ * Options: --threads 8  --operations 200000 (per phase)  --job-ids 2000  --companies 20
+ * --applicants 500  --seed 42
+ */
+public class StressCheck {
+    private static final int MAX_REPORTED = 20;
+
+    private final int threads;
+    private final int operations;
+    private final int jobIds;
+    private final int companies;
+    private final int applicants;
+    private final long seed;
+    private final AtomicInteger titleCounter = new AtomicInteger();
+    private final List<String> mismatches = Collections.synchronizedList(new ArrayList<>());
+    private int checks;
+
+    StressCheck(Map<String, String> options) {
+        this.threads = Integer.parseInt(options.getOrDefault("threads", "8"));
+        this.operations = Integer.parseInt(options.getOrDefault("operations", "200000"));
+        this.jobIds = Integer.parseInt(options.getOrDefault("job-ids", "2000"));
+        this.companies = Integer.parseInt(options.getOrDefault("companies", "20"));
+        this.applicants = Integer.parseInt(options.getOrDefault("applicants", "500"));
+        this.seed = Long.parseLong(options.getOrDefault("seed", "42"));
+    }
+
+    public static void main(String[] args) {
+        StressCheck check = new StressCheck(Options.parse(args));
+        check.checkJobs();
+        check.checkApplications();
+        if (!check.mismatches.isEmpty()) {
+            System.out.println("[Stress] FAILED: " + check.mismatches.size() + " mismatches");
+            for (String mismatch : check.mismatches.subList(0, Math.min(MAX_REPORTED, check.mismatches.size()))) {
+                System.out.println("[Stress]   " + mismatch);
+            }
+            System.exit(1);
+        }
+        System.out.println("[Stress] OK: " + check.checks + " checks passed");
+    }
+
+    // Jobs
+
+    private void checkJobs() {
+        InMemoryJobRepository jobs = new InMemoryJobRepository();
+        long elapsed = runThreads("jobs", (random, i) -> {
+            String id = DataGenerator.jobId(random.nextInt(jobIds));
+            int op = random.nextInt(100);
+            if (op < 30) {
+                jobs.add(newJob(random, id));
+            } else if (op < 45) {
+                jobs.remove(id);
+            } else if (op < 70) {
+                Job job = jobs.findById(id);
+                if (job != null) {
+                    job.setTitle(newTitle(random));
+                }
+            } else if (op < 90) {
+                Job job = jobs.findById(id);
+                if (job != null) {
+                    job.setActive(!job.isActive());
+                }
+            } else {
+                jobs.findByCompany(DataGenerator.companyName(random.nextInt(companies)));
+                jobs.findActive();
+                jobs.getSearchIndex().search(DataGenerator.query(random));
+            }
+        });
+        System.out.println("[Stress] Jobs: " + operations + " operations on " + threads + " threads in "
+                + elapsed + " ms");
+
+        List<Job> all = jobs.findAll();
+        Map<String, Job> byId = new HashMap<>();
+        for (Job job : all) {
+            expect(byId.put(job.getId(), job) == null, "findAll lists " + job.getId() + " twice");
+            expect(jobs.findById(job.getId()) == job, "findById disagrees with findAll for " + job.getId());
+        }
+        for (int i = 0; i < jobIds; i++) {
+            String id = DataGenerator.jobId(i);
+            expect(byId.containsKey(id) == (jobs.findById(id) != null), "findById has " + id + " but findAll does not");
+        }
+        expect(jobs.findAll(0, 10).getTotal() == all.size(), "paged total " + jobs.findAll(0, 10).getTotal()
+                + " != " + all.size());
+
+        Set<Job> byCompany = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<String, Integer> companyCounts = new HashMap<>();
+        for (int c = 0; c < companies; c++) {
+            String company = DataGenerator.companyName(c);
+            for (Job job : jobs.findByCompany(company)) {
+                expect(job.getCompanyUsername().equals(company), job.getId() + " filed under " + company);
+                expect(byCompany.add(job), job.getId() + " listed twice by company");
+                expect(byId.get(job.getId()) == job, "findByCompany returns stale " + job.getId());
+            }
+            if (!jobs.findByCompany(company).isEmpty()) {
+                companyCounts.put(company, jobs.findByCompany(company).size());
+            }
+        }
+        expect(byCompany.size() == all.size(), "company index holds " + byCompany.size() + " of " + all.size());
+
+        List<Job> expectedActive = new ArrayList<>();
+        for (Job job : all) {
+            if (job.isActive()) {
+                expectedActive.add(job);
+            }
+        }
+        Set<Job> active = Collections.newSetFromMap(new IdentityHashMap<>());
+        active.addAll(jobs.findActive());
+        expect(active.size() == expectedActive.size() && active.containsAll(expectedActive),
+                "active view holds " + active.size() + ", expected " + expectedActive.size());
+
+        expect(jobs.getSearchIndex().size() == expectedActive.size(), "search index holds "
+                + jobs.getSearchIndex().size() + ", expected " + expectedActive.size());
+        for (Job job : all) {
+            expect(jobs.getSearchIndex().contains(job.getId()) == job.isActive(),
+                    "search index membership wrong for " + job.getId());
+            if (job.isActive()) {
+                // Titles end in a unique token, so a stale index entry misses it
+                String token = job.getTitle().substring(job.getTitle().lastIndexOf(' ') + 1);
+                expect(jobs.getSearchIndex().search(token).contains(job.getId()),
+                        "search index has a stale title for " + job.getId() + " (" + job.getTitle() + ")");
+            }
+        }
+
+        FacetIndex facets = jobs.getFacetIndex();
+        expect(facets.select(Map.of()).cardinality() == all.size(), "facet index holds "
+                + facets.select(Map.of()).cardinality() + " of " + all.size());
+        expect(facets.counts(FacetIndex.COMPANY).equals(companyCounts), "company facet counts differ");
+        expect(facets.counts(FacetIndex.ACTIVE).getOrDefault("true", 0) == expectedActive.size(),
+                "active facet count differs");
+        for (Job job : facets.jobs(facets.select(Map.of(FacetIndex.ACTIVE, "true")))) {
+            expect(job.isActive() && byId.get(job.getId()) == job, "active facet holds " + job.getId());
+        }
+    }
+
+    private Job newJob(Random random, String id) {
+        String skill = DataGenerator.pick(random, DataGenerator.SKILLS);
+        Job job = new Job(id, newTitle(random), "Work with " + skill,
+                DataGenerator.companyName(random.nextInt(companies)),
+                skill + ", " + DataGenerator.pick(random, DataGenerator.SKILLS));
+        if (random.nextInt(4) == 0) {
+            job.setActive(false);
+        }
+        return job;
+    }
+
+    private String newTitle(Random random) {
+        return DataGenerator.pick(random, DataGenerator.ROLES) + " t" + titleCounter.incrementAndGet();
+    }
+
+    // Applications
+
+    private void checkApplications() {
+        InMemoryApplicationRepository applications = new InMemoryApplicationRepository();
+        List<Job> jobs = new DataGenerator(seed).jobs(Math.max(1, jobIds / 10), companies);
+        AtomicReferenceArray<String> ids = new AtomicReferenceArray<>(operations);
+        AtomicInteger added = new AtomicInteger();
+        long elapsed = runThreads("applications", (random, i) -> {
+            int op = random.nextInt(100);
+            int count = added.get();
+            if (op < 50 || count == 0) {
+                JobApplication application = new JobApplication(
+                        DataGenerator.applicantName(random.nextInt(applicants)),
+                        jobs.get(random.nextInt(jobs.size())), null);
+                applications.add(application);
+                ids.set(added.getAndIncrement(), application.getId());
+            } else {
+                String id = ids.get(random.nextInt(count));
+                if (id == null) {
+                    return;
+                }
+                if (op < 75) {
+                    applications.advance(id);
+                } else if (op < 90) {
+                    applications.reject(id);
+                } else {
+                    applications.findByUsername(applications.findById(id).getApplicantUsername());
+                }
+            }
+        });
+        System.out.println("[Stress] Applications: " + operations + " operations on " + threads + " threads in "
+                + elapsed + " ms");
+
+        List<JobApplication> all = applications.findAll();
+        expect(all.size() == added.get(), "findAll holds " + all.size() + " of " + added.get() + " added");
+        Set<JobApplication> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (JobApplication application : all) {
+            expect(expected.add(application), "findAll lists " + application.getId() + " twice");
+            expect(applications.findById(application.getId()) == application,
+                    "findById disagrees with findAll for " + application.getId());
+        }
+
+        Set<JobApplication> byJob = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<String> jobIdList = new ArrayList<>();
+        for (Job job : jobs) {
+            jobIdList.add(job.getId());
+            for (JobApplication application : applications.findByJobId(job.getId())) {
+                expect(application.getJob() == job, application.getId() + " filed under job " + job.getId());
+                expect(byJob.add(application), application.getId() + " listed twice by job");
+            }
+        }
+        expect(byJob.equals(expected), "job index holds " + byJob.size() + " of " + expected.size());
+        expect(applications.findByJobIds(jobIdList).size() == expected.size(), "findByJobIds size differs");
+        expect(applications.findByJobIds(jobIdList, 0, 10).getTotal() == expected.size(), "paged total differs");
+
+        Set<JobApplication> byUser = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int u = 0; u < applicants; u++) {
+            String username = DataGenerator.applicantName(u);
+            Map<String, List<JobApplication>> byPair = new HashMap<>();
+            for (JobApplication application : applications.findByUsername(username)) {
+                expect(application.getApplicantUsername().equals(username),
+                        application.getId() + " filed under " + username);
+                expect(byUser.add(application), application.getId() + " listed twice by user");
+                byPair.computeIfAbsent(application.getJob().getId(), k -> new ArrayList<>()).add(application);
+            }
+            for (Map.Entry<String, List<JobApplication>> pair : byPair.entrySet()) {
+                JobApplication latest = applications.findByUsernameAndJobId(username, pair.getKey());
+                expect(latest != null && pair.getValue().contains(latest),
+                        "(username, jobId) index has no live entry for " + username + "/" + pair.getKey());
+            }
+        }
+        expect(byUser.equals(expected), "username index holds " + byUser.size() + " of " + expected.size());
+    }
+
+    // Harness
+
+    private interface Operation {
+        void run(Random random, int index);
+    }
+
+    // Splits the operations over the threads, releases them together and
+    // returns the wall time in milliseconds
+    private long runThreads(String name, Operation operation) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            Thread worker = new Thread(() -> {
+                Random random = new Random(seed + index);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = index; i < operations; i += threads) {
+                    try {
+                        operation.run(random, i);
+                    } catch (RuntimeException e) {
+                        mismatches.add(name + " operation threw " + e);
+                    }
+                }
+            }, "stress-" + name + "-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+        long started = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+
+    private void expect(boolean condition, String mismatch) {
+        checks++;
+        if (!condition) {
+            mismatches.add(mismatch);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.jobsphere.bench;
+
+import com.jobsphere.core.InMemoryUserRepository;
+import com.jobsphere.core.User;
+import com.jobsphere.core.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class UserRepositoryBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    private List<User> applicants;
+    private UserRepository repository;
+    private String[] usernames;
+    private long next;
+
+    @Setup
+    public void setUp() {
+        DataGenerator data = new DataGenerator(42);
+        repository = new InMemoryUserRepository();
+        for (User company : data.companies(Math.max(1, size / 100))) {
+            repository.add(company);
+        }
+        applicants = data.applicants(size, DataGenerator.PASSWORD);
+        for (User applicant : applicants) {
+            repository.add(applicant);
+        }
+        usernames = Probes.applicantNames(size);
+    }
+
+    @Benchmark
+    public User findByUsername() {
+        return repository.findByUsername(usernames[Probes.index(next++, usernames.length)]);
+    }
+
+    @Benchmark
+    public List<User> findByRole() {
+        return repository.findByRole("APPLICANT");
+    }
+
+    @Benchmark
+    public User update() {
+        User user = applicants.get(Probes.index(next++, size));
+        repository.update(user);
+        return user;
+    }
+}
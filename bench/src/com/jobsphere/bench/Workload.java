@@ -0,0 +1,256 @@
+package com.jobsphere.bench;
+
+import com.jobsphere.core.DataManager;
+import com.jobsphere.core.Job;
+import com.jobsphere.core.JobApplication;
+import com.jobsphere.core.JobBuilder;
+import com.jobsphere.core.Page;
+import com.jobsphere.core.Session;
+import com.jobsphere.core.UserFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A synthetic user population and the traffic it generates against
+ * DataManager. Which applicant logs in, which job is viewed or applied to,
+ * which company reviews and which query is searched are all drawn from Zipf
+ * distributions, so a small set of popular records takes most of the load
+ * as it does in production. The operation mix is a weighted choice.
+ */
+public class Workload {
+
+    public enum Operation {
+        SEARCH, VIEW_JOB, LOGIN, VALIDATE_SESSION, APPLY, REVIEW, POST_JOB
+    }
+
+    public static final class Config {
+        public int companies = 100;
+        public int jobsPerCompany = 50;
+        public int applicants = 10_000;
+        public double zipfExponent = 1.0;
+        public long seed = 42;
+        public final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+        public Config() {
+            mix.put(Operation.SEARCH, 40);
+            mix.put(Operation.VIEW_JOB, 25);
+            mix.put(Operation.VALIDATE_SESSION, 15);
+            mix.put(Operation.LOGIN, 5);
+            mix.put(Operation.APPLY, 8);
+            mix.put(Operation.REVIEW, 5);
+            mix.put(Operation.POST_JOB, 2);
+        }
+    }
+
+    /**
+     * Per-thread state: a Random and the session of the user this thread is
+     * currently acting as.
+     */
+    public static final class Client {
+        final Random random;
+        final String source;
+        Session session;
+
+        Client(long seed, String source) {
+            this.random = new Random(seed);
+            this.source = source;
+        }
+    }
+
+    private static final int REVIEW_PAGE_SIZE = 100;
+
+    private final Config config;
+    private final DataManager dataManager;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final ZipfSampler applicantSampler;
+    private final ZipfSampler companySampler;
+    private final ZipfSampler jobSampler;
+    private final ZipfSampler querySampler;
+    private final String[] queries;
+    private final int jobCount;
+
+    public Workload(Config config, DataManager dataManager) {
+        this.config = config;
+        this.dataManager = dataManager;
+        List<Operation> selected = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<Operation, Integer> e : config.mix.entrySet()) {
+            if (e.getValue() > 0) {
+                total += e.getValue();
+                selected.add(e.getKey());
+                cumulative.add(total);
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("Operation mix has no positive weights");
+        }
+        this.operations = selected.toArray(new Operation[0]);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+        this.jobCount = config.companies * config.jobsPerCompany;
+        this.applicantSampler = new ZipfSampler(config.applicants, config.zipfExponent);
+        this.companySampler = new ZipfSampler(config.companies, config.zipfExponent);
+        this.jobSampler = new ZipfSampler(Math.max(1, jobCount), config.zipfExponent);
+        this.queries = queryVocabulary(config.seed);
+        this.querySampler = new ZipfSampler(queries.length, config.zipfExponent);
+    }
+
+    /**
+     * Registers the companies and applicants and posts their jobs, skipping
+     * any that already exist. Registration hashes every password, so it is
+     * spread over {@code threads} threads.
+     */
+    public void populate(int threads) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> pending = new ArrayList<>();
+            for (int i = 0; i < config.companies; i++) {
+                String name = DataGenerator.companyName(i);
+                pending.add(executor.submit(() -> register("COMPANY", name)));
+            }
+            for (int i = 0; i < config.applicants; i++) {
+                String name = DataGenerator.applicantName(i);
+                pending.add(executor.submit(() -> register("APPLICANT", name)));
+            }
+            for (Future<?> future : pending) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while populating", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not register users", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        for (Job job : new DataGenerator(config.seed).jobs(jobCount, config.companies)) {
+            if (dataManager.getJob(job.getId()) == null) {
+                dataManager.addJob(job);
+            }
+        }
+    }
+
+    public Client newClient(int index) {
+        return new Client(config.seed * 31 + index, "load-" + index);
+    }
+
+    public Operation nextOperation(Random random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * Runs one operation for the client and returns the operation actually
+     * performed: validating a session logs in first when the client has none.
+     */
+    public Operation execute(Operation operation, Client client) {
+        Random random = client.random;
+        switch (operation) {
+            case SEARCH: {
+                String query = queries[querySampler.next(random)];
+                dataManager.searchJobs(query);
+                return operation;
+            }
+            case VIEW_JOB: {
+                Job job = dataManager.getJob(DataGenerator.jobId(jobSampler.next(random)));
+                if (job != null) {
+                    dataManager.getApplicationsForJob(job.getId());
+                }
+                return operation;
+            }
+            case VALIDATE_SESSION: {
+                if (client.session == null) {
+                    return execute(Operation.LOGIN, client);
+                }
+                if (dataManager.validateSession(client.session.getToken()) == null) {
+                    client.session = null;
+                }
+                return operation;
+            }
+            case LOGIN: {
+                String username = DataGenerator.applicantName(applicantSampler.next(random));
+                Session session = dataManager.openSession(username, DataGenerator.PASSWORD, client.source);
+                if (session == null) {
+                    throw new IllegalStateException("Login rejected for " + username);
+                }
+                if (client.session != null) {
+                    dataManager.closeSession(client.session.getToken());
+                }
+                client.session = session;
+                return operation;
+            }
+            case APPLY: {
+                Job job = dataManager.getJob(DataGenerator.jobId(jobSampler.next(random)));
+                if (job != null) {
+                    String username = DataGenerator.applicantName(applicantSampler.next(random));
+                    dataManager.addApplication(new JobApplication(username, job, "resumes/" + username + ".txt"));
+                }
+                return operation;
+            }
+            case REVIEW: {
+                List<String> jobIds = new ArrayList<>();
+                for (Job job : dataManager.getJobsByCompany(DataGenerator.companyName(companySampler.next(random)))) {
+                    jobIds.add(job.getId());
+                }
+                Page<JobApplication> page = dataManager.getApplicationsForJobs(jobIds, 0, REVIEW_PAGE_SIZE);
+                if (!page.getItems().isEmpty()) {
+                    JobApplication application = page.getItems().get(random.nextInt(page.getItems().size()));
+                    if (random.nextInt(5) == 0) {
+                        dataManager.rejectApplication(application.getId());
+                    } else {
+                        dataManager.advanceApplication(application.getId());
+                    }
+                }
+                return operation;
+            }
+            case POST_JOB: {
+                String skill = DataGenerator.pick(random, DataGenerator.SKILLS);
+                dataManager.addJob(new JobBuilder()
+                        .setTitle(DataGenerator.pick(random, DataGenerator.LEVELS) + " " + skill + " "
+                                + DataGenerator.pick(random, DataGenerator.ROLES))
+                        .setDescription("Join our team working with " + skill + ".")
+                        .setCompanyUsername(DataGenerator.companyName(companySampler.next(random)))
+                        .setRequirements(skill + ", " + DataGenerator.pick(random, DataGenerator.SKILLS))
+                        .build());
+                return operation;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown operation " + operation);
+        }
+    }
+
+    private void register(String type, String username) {
+        if (dataManager.getUser(username) == null) {
+            dataManager.registerUser(UserFactory.createUser(type, username, DataGenerator.PASSWORD,
+                    username + "@example.com"));
+        }
+    }
+
+    // Every skill alone and with each role, shuffled so popularity is not alphabetical
+    private static String[] queryVocabulary(long seed) {
+        List<String> queries = new ArrayList<>();
+        for (String skill : DataGenerator.SKILLS) {
+            queries.add(skill);
+            for (String role : DataGenerator.ROLES) {
+                queries.add(skill + " " + role.toLowerCase());
+            }
+        }
+        Collections.shuffle(queries, new Random(seed));
+        return queries.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,10 @@
+@echo off
+call mvn -q -f bench\pom.xml package
+if %errorlevel% neq 0 (
+    echo Build failed!
+    pause
+    exit /b %errorlevel%
+)
+echo Running load test...
+java -Xmx4g -cp bench\target\benchmarks.jar com.jobsphere.bench.LoadTest %*
+pause
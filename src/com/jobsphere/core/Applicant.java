@@ -2,12 +2,13 @@ package com.jobsphere.core;
 import java.util.*;
 
 public class Applicant extends User {
-    private String resumePath;
-    private final List<String> savedJobIds;
+    private volatile String resumePath;
+    // Insertion-ordered so saved jobs list in the order they were saved
+    private final Set<String> savedJobIds;
 
     public Applicant(String username, String password, String email) {
         super(username, password, email);
-        this.savedJobIds = new ArrayList<>();
+        this.savedJobIds = Collections.synchronizedSet(new LinkedHashSet<>());
     }
 
     public void setResumePath(String path) {
@@ -19,9 +20,7 @@ public class Applicant extends User {
     }
 
     public void saveJob(String jobId) {
-        if (!savedJobIds.contains(jobId)) {
-            savedJobIds.add(jobId);
-        }
+        savedJobIds.add(jobId);
     }
 
     public void removeSavedJob(String jobId) {
@@ -32,6 +31,27 @@ public class Applicant extends User {
         return savedJobIds.contains(jobId);
     }
 
+    public Set<String> getSavedJobIds() {
+        synchronized (savedJobIds) {
+            return new LinkedHashSet<>(savedJobIds);
+        }
+    }
+
+    /**
+     * Returns the given job ids that are saved, in the order given.
+     */
+    public List<String> filterSaved(Collection<String> jobIds) {
+        List<String> result = new ArrayList<>();
+        synchronized (savedJobIds) {
+            for (String jobId : jobIds) {
+                if (savedJobIds.contains(jobId)) {
+                    result.add(jobId);
+                }
+            }
+        }
+        return result;
+    }
+
     @Override
     public String getRole() {
         return "APPLICANT";
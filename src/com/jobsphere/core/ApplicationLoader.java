@@ -0,0 +1,28 @@
+package com.jobsphere.core;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Backing store an InMemoryApplicationRepository materializes applications
+ * from on demand, one job's applications at a time.
+ */
+interface ApplicationLoader {
+    // Ids of the jobs that have applications in the store
+    Set<String> jobIds();
+
+    // Decodes the job's applications without side effects
+    List<JobApplication> load(String jobId);
+
+    // Called once for each application the repository has taken in
+    void loaded(JobApplication application);
+
+    // Job of the stored application with this id, or null
+    String jobIdOf(String applicationId);
+
+    Set<String> jobIdsOf(String username);
+
+    // Passes (username, resume path) of each of the job's applications
+    void forEachResume(String jobId, BiConsumer<String, String> action);
+}
@@ -1,12 +1,35 @@
 package com.jobsphere.core;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ApplicationRepository {
     void add(JobApplication application);
 
+    JobApplication findById(String applicationId);
+
     List<JobApplication> findByJobId(String jobId);
 
+    List<JobApplication> findByJobIds(Collection<String> jobIds);
+
+    Page<JobApplication> findByJobIds(Collection<String> jobIds, int offset, int limit);
+
     List<JobApplication> findByUsername(String username);
 
+    JobApplication findByUsernameAndJobId(String username, String jobId);
+
+    List<JobApplication> findAll();
+
+    /**
+     * Moves the application to its next stage; returns it, or null if no
+     * application has that id.
+     */
+    JobApplication advance(String applicationId);
+
+    /**
+     * Rejects the application; returns it, or null if no application has
+     * that id.
+     */
+    JobApplication reject(String applicationId);
+
 }
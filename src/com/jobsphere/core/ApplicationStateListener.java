@@ -0,0 +1,5 @@
+package com.jobsphere.core;
+
+public interface ApplicationStateListener {
+    void onStateChanged(JobApplication application);
+}
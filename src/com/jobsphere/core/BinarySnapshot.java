@@ -0,0 +1,404 @@
+package com.jobsphere.core;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact snapshot of users, jobs and applications read through a
+ * MappedByteBuffer. Records are fixed width, so record i is found by
+ * arithmetic and only materialized when asked for. Strings live in a
+ * trailing heap and are referenced as (offset, length); low-cardinality
+ * values such as roles, company usernames and status names are stored once
+ * in a dictionary and shared by every record that uses them.
+ *
+ * Applications are stored grouped by job, so one job's applications are a
+ * contiguous run found by binary search. Two index sections hold
+ * (hash, record number) pairs sorted by the hash of the id and of the
+ * username, so a single application or one user's applications are found
+ * by decoding only the records whose hash matches.
+ *
+ * Layout: header | dictionary | users | jobs | applications | id index |
+ * username index | string heap
+ */
+public class BinarySnapshot {
+    private static final int MAGIC = 0x4A534E32; // "JSN2"
+    private static final int VERSION = 3;
+    private static final int HEADER_SIZE = 80;
+
+    private static final int REF_SIZE = 8;
+    private static final int USER_SIZE = 4 + 5 * REF_SIZE;
+    // Saved job ids are stored as one heap string; ids never contain a newline
+    private static final String SAVED_JOB_SEPARATOR = "\n";
+    private static final int JOB_SIZE = 4 * REF_SIZE + 4 + 1;
+    private static final int APPLICATION_SIZE = REF_SIZE + REF_SIZE + 4 + REF_SIZE + 4;
+    private static final int INDEX_ENTRY_SIZE = 8;
+
+    private static final byte ACTIVE = 1;
+    private static final byte ORPHAN = 2;
+
+    private final MappedByteBuffer buffer;
+    private final int userCount;
+    private final int jobCount;
+    private final int applicationCount;
+    private final int usersOffset;
+    private final int jobsOffset;
+    private final int applicationsOffset;
+    private final int idIndexOffset;
+    private final int usernameIndexOffset;
+    private final int heapOffset;
+    private final String[] dictionary;
+
+    private BinarySnapshot(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported snapshot format");
+        }
+        int dictionaryCount = buffer.getInt(8);
+        this.userCount = buffer.getInt(12);
+        this.jobCount = buffer.getInt(16);
+        this.applicationCount = buffer.getInt(20);
+        int dictionaryOffset = (int) buffer.getLong(24);
+        this.usersOffset = (int) buffer.getLong(32);
+        this.jobsOffset = (int) buffer.getLong(40);
+        this.applicationsOffset = (int) buffer.getLong(48);
+        this.idIndexOffset = (int) buffer.getLong(56);
+        this.usernameIndexOffset = (int) buffer.getLong(64);
+        this.heapOffset = (int) buffer.getLong(72);
+        this.dictionary = new String[dictionaryCount];
+        for (int i = 0; i < dictionaryCount; i++) {
+            dictionary[i] = string(dictionaryOffset + i * REF_SIZE);
+        }
+    }
+
+    public static BinarySnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot larger than 2 GB: " + file);
+            }
+            // The mapping stays valid after the channel is closed
+            return new BinarySnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int getUserCount() {
+        return userCount;
+    }
+
+    public int getJobCount() {
+        return jobCount;
+    }
+
+    public int getApplicationCount() {
+        return applicationCount;
+    }
+
+    public User user(int index) {
+        int pos = usersOffset + index * USER_SIZE;
+        User user = UserFactory.createUser(dictionary[buffer.getInt(pos)],
+                string(pos + 4), string(pos + 4 + REF_SIZE), string(pos + 4 + 2 * REF_SIZE));
+        if (user instanceof Applicant) {
+            Applicant applicant = (Applicant) user;
+            applicant.setResumePath(string(pos + 4 + 3 * REF_SIZE));
+            String savedJobs = string(pos + 4 + 4 * REF_SIZE);
+            if (savedJobs != null) {
+                for (String jobId : savedJobs.split(SAVED_JOB_SEPARATOR)) {
+                    applicant.saveJob(jobId);
+                }
+            }
+        }
+        return user;
+    }
+
+    public Job job(int index) {
+        int pos = jobsOffset + index * JOB_SIZE;
+        Job job = new Job(string(pos), string(pos + REF_SIZE), string(pos + 2 * REF_SIZE),
+                dictionary[buffer.getInt(pos + 4 * REF_SIZE)], string(pos + 3 * REF_SIZE));
+        if ((buffer.get(pos + 4 * REF_SIZE + 4) & ACTIVE) == 0) {
+            job.setActive(false);
+        }
+        return job;
+    }
+
+    // Orphans are removed jobs kept only because applications still reference them
+    public boolean isOrphanJob(int index) {
+        return (buffer.get(jobsOffset + index * JOB_SIZE + 4 * REF_SIZE + 4) & ORPHAN) != 0;
+    }
+
+    /**
+     * Materializes application i; jobsByIndex must hold the materialized
+     * job for every job record index.
+     */
+    public JobApplication application(int index, Job[] jobsByIndex) {
+        int pos = applicationsOffset + index * APPLICATION_SIZE;
+        String id = string(pos);
+        pos += REF_SIZE;
+        Job job = jobsByIndex[buffer.getInt(pos + REF_SIZE)];
+        JobApplication application = new JobApplication(id, string(pos), job, string(pos + REF_SIZE + 4));
+        application.restoreStatus(dictionary[buffer.getInt(pos + 2 * REF_SIZE + 4)]);
+        return application;
+    }
+
+    public String applicationId(int index) {
+        return string(applicationsOffset + index * APPLICATION_SIZE);
+    }
+
+    public String applicationUsername(int index) {
+        return string(applicationsOffset + index * APPLICATION_SIZE + REF_SIZE);
+    }
+
+    public String applicationResumePath(int index) {
+        return string(applicationsOffset + index * APPLICATION_SIZE + 2 * REF_SIZE + 4);
+    }
+
+    public int applicationJob(int index) {
+        return buffer.getInt(applicationsOffset + index * APPLICATION_SIZE + 2 * REF_SIZE);
+    }
+
+    /**
+     * Record number of the first application of the given job record;
+     * the job's applications run up to firstApplicationOf(jobIndex + 1).
+     */
+    public int firstApplicationOf(int jobIndex) {
+        int low = 0;
+        int high = applicationCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (applicationJob(mid) < jobIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Record number of the application with this id, or -1
+    public int findApplication(String id) {
+        for (int i = firstEntry(idIndexOffset, id.hashCode()); i < applicationCount; i++) {
+            int pos = idIndexOffset + i * INDEX_ENTRY_SIZE;
+            if (buffer.getInt(pos) != id.hashCode()) {
+                break;
+            }
+            if (id.equals(applicationId(buffer.getInt(pos + 4)))) {
+                return buffer.getInt(pos + 4);
+            }
+        }
+        return -1;
+    }
+
+    // Record numbers of every application by the user
+    public List<Integer> findApplicationsBy(String username) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = firstEntry(usernameIndexOffset, username.hashCode()); i < applicationCount; i++) {
+            int pos = usernameIndexOffset + i * INDEX_ENTRY_SIZE;
+            if (buffer.getInt(pos) != username.hashCode()) {
+                break;
+            }
+            if (username.equals(applicationUsername(buffer.getInt(pos + 4)))) {
+                result.add(buffer.getInt(pos + 4));
+            }
+        }
+        return result;
+    }
+
+    // First entry of an index section whose hash is at least the given one
+    private int firstEntry(int indexOffset, int hash) {
+        int low = 0;
+        int high = applicationCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer.getInt(indexOffset + mid * INDEX_ENTRY_SIZE) < hash) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private String string(int refPos) {
+        int offset = buffer.getInt(refPos);
+        int length = buffer.getInt(refPos + 4);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(heapOffset + offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static void write(FileChannel channel, List<User> users, List<Job> jobs,
+                             Collection<Job> orphanJobs, List<JobApplication> applications) throws IOException {
+        Builder builder = new Builder();
+        Map<String, Integer> jobIndexes = new HashMap<>();
+
+        DataOutputStream userRecords = builder.section(users.size() * USER_SIZE);
+        for (User user : users) {
+            userRecords.writeInt(builder.intern(user.getRole()));
+            builder.ref(userRecords, user.getUsername());
+            builder.ref(userRecords, user.getPassword());
+            builder.ref(userRecords, user.getEmail());
+            builder.ref(userRecords, user instanceof Applicant ? ((Applicant) user).getResumePath() : null);
+            builder.ref(userRecords, user instanceof Applicant ? savedJobs((Applicant) user) : null);
+        }
+
+        DataOutputStream jobRecords = builder.section((jobs.size() + orphanJobs.size()) * JOB_SIZE);
+        List<Job> allJobs = new ArrayList<>(jobs);
+        allJobs.addAll(orphanJobs);
+        for (int i = 0; i < allJobs.size(); i++) {
+            Job job = allJobs.get(i);
+            jobIndexes.put(job.getId(), i);
+            builder.ref(jobRecords, job.getId());
+            builder.ref(jobRecords, job.getTitle());
+            builder.ref(jobRecords, job.getDescription());
+            builder.ref(jobRecords, job.getRequirements());
+            jobRecords.writeInt(builder.intern(job.getCompanyUsername()));
+            jobRecords.writeByte((job.isActive() ? ACTIVE : 0) | (i >= jobs.size() ? ORPHAN : 0));
+        }
+
+        // Grouped by job with a counting sort, keeping each job's applications in order
+        int[] jobOf = new int[applications.size()];
+        int[] starts = new int[allJobs.size() + 1];
+        for (int i = 0; i < jobOf.length; i++) {
+            jobOf[i] = jobIndexes.get(applications.get(i).getJob().getId());
+            starts[jobOf[i] + 1]++;
+        }
+        for (int j = 0; j < allJobs.size(); j++) {
+            starts[j + 1] += starts[j];
+        }
+        JobApplication[] byJob = new JobApplication[applications.size()];
+        for (int i = 0; i < jobOf.length; i++) {
+            byJob[starts[jobOf[i]]++] = applications.get(i);
+        }
+        DataOutputStream applicationRecords = builder.section(applications.size() * APPLICATION_SIZE);
+        for (JobApplication application : byJob) {
+            builder.ref(applicationRecords, application.getId());
+            builder.ref(applicationRecords, application.getApplicantUsername());
+            applicationRecords.writeInt(jobIndexes.get(application.getJob().getId()));
+            builder.ref(applicationRecords, application.getResumePath());
+            applicationRecords.writeInt(builder.intern(application.getStatus()));
+        }
+        String[] keys = new String[byJob.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = byJob[i].getId();
+        }
+        writeIndex(builder.section(keys.length * INDEX_ENTRY_SIZE), keys);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = byJob[i].getApplicantUsername();
+        }
+        writeIndex(builder.section(keys.length * INDEX_ENTRY_SIZE), keys);
+
+        ByteArrayOutputStream dictionaryBytes = builder.dictionaryRefs();
+
+        long dictionaryOffset = HEADER_SIZE;
+        long usersOffset = dictionaryOffset + dictionaryBytes.size();
+        long jobsOffset = usersOffset + builder.sections.get(0).size();
+        long applicationsOffset = jobsOffset + builder.sections.get(1).size();
+        long idIndexOffset = applicationsOffset + builder.sections.get(2).size();
+        long usernameIndexOffset = idIndexOffset + builder.sections.get(3).size();
+        long heapOffset = usernameIndexOffset + builder.sections.get(4).size();
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(builder.dictionary.size());
+        out.writeInt(users.size());
+        out.writeInt(allJobs.size());
+        out.writeInt(applications.size());
+        out.writeLong(dictionaryOffset);
+        out.writeLong(usersOffset);
+        out.writeLong(jobsOffset);
+        out.writeLong(applicationsOffset);
+        out.writeLong(idIndexOffset);
+        out.writeLong(usernameIndexOffset);
+        out.writeLong(heapOffset);
+        dictionaryBytes.writeTo(out);
+        for (ByteArrayOutputStream section : builder.sections) {
+            section.writeTo(out);
+        }
+        builder.heap.writeTo(out);
+        out.flush();
+    }
+
+    // (hash, record number) pairs sorted by hash, then record number
+    private static void writeIndex(DataOutputStream out, String[] keys) throws IOException {
+        long[] entries = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            entries[i] = ((long) keys[i].hashCode() << 32) | i;
+        }
+        Arrays.sort(entries);
+        for (long entry : entries) {
+            out.writeLong(entry);
+        }
+    }
+
+    private static String savedJobs(Applicant applicant) {
+        Set<String> jobIds = applicant.getSavedJobIds();
+        return jobIds.isEmpty() ? null : String.join(SAVED_JOB_SEPARATOR, jobIds);
+    }
+
+    private static class Builder {
+        final List<ByteArrayOutputStream> sections = new ArrayList<>();
+        final ByteArrayOutputStream heap = new ByteArrayOutputStream(1 << 16);
+        final Map<String, Integer> dictionary = new HashMap<>();
+        final List<Long> dictionaryEntries = new ArrayList<>();
+
+        DataOutputStream section(int size) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(size, 32));
+            sections.add(bytes);
+            return new DataOutputStream(bytes);
+        }
+
+        int intern(String value) throws IOException {
+            Integer index = dictionary.get(value);
+            if (index == null) {
+                index = dictionary.size();
+                dictionary.put(value, index);
+                dictionaryEntries.add(append(value));
+            }
+            return index;
+        }
+
+        void ref(DataOutputStream out, String value) throws IOException {
+            out.writeLong(append(value));
+        }
+
+        ByteArrayOutputStream dictionaryRefs() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(dictionaryEntries.size() * REF_SIZE);
+            DataOutputStream refs = new DataOutputStream(bytes);
+            for (long ref : dictionaryEntries) {
+                refs.writeLong(ref);
+            }
+            return bytes;
+        }
+
+        // Packs (offset, length) into one long, matching the on-disk int pair
+        private long append(String value) throws IOException {
+            if (value == null) {
+                return -1L & 0xFFFFFFFFL;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            long offset = heap.size();
+            if (offset + bytes.length > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot string heap exceeds 2 GB");
+            }
+            heap.write(bytes, 0, bytes.length);
+            return (offset << 32) | bytes.length;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.jobsphere.core;
+
+/**
+ * An inclusive byte range, parsed from an HTTP-style Range header value such
+ * as "bytes=0-1023", "bytes=500-" or "bytes=-200" (the last 200 bytes).
+ */
+public class ByteRange {
+    private final long start;
+    private final long end;
+
+    public ByteRange(long start, long end) {
+        if (start < 0 || end < start) {
+            throw new IllegalArgumentException("Invalid byte range " + start + "-" + end);
+        }
+        this.start = start;
+        this.end = end;
+    }
+
+    public static ByteRange full(long size) {
+        if (size == 0) {
+            throw new IllegalArgumentException("Range not satisfiable for an empty file");
+        }
+        return new ByteRange(0, size - 1);
+    }
+
+    public static ByteRange parse(String header, long size) {
+        if (header == null || header.isEmpty()) {
+            return full(size);
+        }
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            throw new IllegalArgumentException("Unsupported range: " + header);
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            throw new IllegalArgumentException("Malformed range: " + header);
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            }
+            if (start >= size || end < start) {
+                throw new IllegalArgumentException("Range not satisfiable: " + header + " for size " + size);
+            }
+            return new ByteRange(start, end);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed range: " + header);
+        }
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    // Value for a Content-Range response header
+    public String toContentRange(long size) {
+        return "bytes " + start + "-" + end + "/" + size;
+    }
+
+    @Override
+    public String toString() {
+        return "bytes=" + start + "-" + end;
+    }
+}
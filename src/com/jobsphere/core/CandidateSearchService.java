@@ -0,0 +1,198 @@
+package com.jobsphere.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Substring search over applicant usernames and emails. Queries of three or
+ * more characters intersect trigram posting sets, two-character queries read
+ * their bigram's posting set directly, and single characters, which match
+ * most candidates, walk usernames in order until the page is full.
+ *
+ * Results come in username order and are paged by cursor: each page starts
+ * after the last username of the previous one. Only the page plus one
+ * further match is kept while scanning, and nothing past the page is
+ * counted, so deep pages cost no more than the first.
+ */
+public class CandidateSearchService {
+    private static final int GRAM = 3;
+    private static final int BIGRAM = 2;
+
+    private final Map<String, User> candidates = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> indexedKeys = new ConcurrentHashMap<>();
+    private final NavigableSet<String> usernames = new ConcurrentSkipListSet<>();
+    private final Map<String, Set<String>> trigrams = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> bigrams = new ConcurrentHashMap<>();
+
+    public synchronized void index(User user) {
+        if (!"APPLICANT".equals(user.getRole())) {
+            return;
+        }
+        String username = user.getUsername();
+        unindex(username);
+
+        List<String> keys = new ArrayList<>();
+        keys.add(username.toLowerCase());
+        if (user.getEmail() != null && !user.getEmail().isEmpty()) {
+            keys.add(user.getEmail().toLowerCase());
+        }
+        for (String key : keys) {
+            for (String gram : gramsOf(key, BIGRAM)) {
+                bigrams.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(username);
+            }
+            for (String gram : gramsOf(key, GRAM)) {
+                trigrams.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(username);
+            }
+        }
+        indexedKeys.put(username, keys);
+        candidates.put(username, user);
+        usernames.add(username);
+    }
+
+    /**
+     * Up to limit matches whose usernames sort after {@code after}, or from
+     * the start when it is null. The page's total counts only matches from
+     * the cursor on and stops at limit + 1, which keeps hasNext() exact.
+     */
+    public Page<User> search(String query, String after, int limit) {
+        String q = query == null ? "" : query.trim().toLowerCase();
+        if (q.length() < BIGRAM) {
+            return firstAfter(q, after, limit);
+        }
+        // Max-heap of the smallest limit + 1 usernames after the cursor
+        PriorityQueue<String> page = new PriorityQueue<>(Comparator.reverseOrder());
+        Set<String> inPage = new HashSet<>();
+        if (q.length() < GRAM) {
+            // A bigram's posting set is exactly the candidates containing it
+            for (String username : bigrams.getOrDefault(q, Set.of())) {
+                offer(page, inPage, username, after, limit + 1);
+            }
+        } else {
+            List<Set<String>> lists = new ArrayList<>();
+            for (String gram : gramsOf(q, GRAM)) {
+                Set<String> list = trigrams.get(gram);
+                if (list == null) {
+                    return new Page<>(new ArrayList<>(), 0, 0);
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+            for (String username : lists.get(0)) {
+                if ((after == null || username.compareTo(after) > 0) && inAll(username, lists)
+                        && matchesSubstring(username, q)) {
+                    offer(page, inPage, username, after, limit + 1);
+                }
+            }
+        }
+        List<String> sorted = new ArrayList<>(page);
+        sorted.sort(null);
+        return page(sorted, limit);
+    }
+
+    private synchronized void unindex(String username) {
+        List<String> keys = indexedKeys.remove(username);
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            for (String gram : gramsOf(key, BIGRAM)) {
+                removeFrom(bigrams, gram, username);
+            }
+            for (String gram : gramsOf(key, GRAM)) {
+                removeFrom(trigrams, gram, username);
+            }
+        }
+    }
+
+    // Walks usernames in order from the cursor; q is empty or a single character
+    private Page<User> firstAfter(String q, String after, int limit) {
+        List<String> sorted = new ArrayList<>();
+        for (String username : after == null ? usernames : usernames.tailSet(after, false)) {
+            if (sorted.size() > limit) {
+                break;
+            }
+            if (q.isEmpty() || matchesSubstring(username, q)) {
+                sorted.add(username);
+            }
+        }
+        return page(sorted, limit);
+    }
+
+    // sortedUsernames holds at most limit + 1 entries; the extra one only
+    // signals that another page exists
+    private Page<User> page(List<String> sortedUsernames, int limit) {
+        List<User> items = new ArrayList<>();
+        for (String username : sortedUsernames) {
+            User user = candidates.get(username);
+            if (user != null && items.size() < limit) {
+                items.add(user);
+            }
+        }
+        return new Page<>(items, 0, items.size() + (sortedUsernames.size() > limit ? 1 : 0));
+    }
+
+    private static void offer(PriorityQueue<String> page, Set<String> inPage, String username, String after,
+                              int capacity) {
+        if ((after != null && username.compareTo(after) <= 0) || inPage.contains(username)) {
+            return;
+        }
+        if (page.size() < capacity) {
+            page.add(username);
+            inPage.add(username);
+        } else if (username.compareTo(page.peek()) < 0) {
+            inPage.remove(page.poll());
+            page.add(username);
+            inPage.add(username);
+        }
+    }
+
+    private boolean inAll(String username, List<Set<String>> lists) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(username)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Trigram hits can be false positives, so confirm against the indexed keys
+    private boolean matchesSubstring(String username, String q) {
+        List<String> keys = indexedKeys.get(username);
+        if (keys == null) {
+            return false;
+        }
+        for (String key : keys) {
+            if (key.contains(q)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void removeFrom(Map<String, Set<String>> index, String key, String username) {
+        Set<String> owners = index.get(key);
+        if (owners != null) {
+            owners.remove(username);
+            if (owners.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static Set<String> gramsOf(String key, int length) {
+        Set<String> grams = new TreeSet<>();
+        for (int i = 0; i + length <= key.length(); i++) {
+            grams.add(key.substring(i, i + length));
+        }
+        return grams;
+    }
+}
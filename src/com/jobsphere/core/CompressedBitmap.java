@@ -0,0 +1,389 @@
+package com.jobsphere.core;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Set of non-negative ints split into 64K chunks by the high 16 bits, in the
+ * style of Roaring bitmaps. Sparse chunks are stored as sorted arrays and
+ * dense ones as 1024-word bitsets. Not thread-safe.
+ */
+public class CompressedBitmap {
+    // Above this many entries an array chunk costs more than a bitset chunk (8 KB)
+    private static final int ARRAY_LIMIT = 4096;
+
+    private char[] keys = new char[4];
+    private Chunk[] chunks = new Chunk[4];
+    private int chunkCount;
+    private int cardinality;
+
+    public boolean add(int value) {
+        char key = (char) (value >>> 16);
+        int i = indexOf(key);
+        if (i < 0) {
+            i = -i - 1;
+            insertChunk(i, key, new ArrayChunk());
+        }
+        Chunk chunk = chunks[i];
+        if (!chunk.add((char) value)) {
+            return false;
+        }
+        if (chunk instanceof ArrayChunk && chunk.cardinality() > ARRAY_LIMIT) {
+            chunks[i] = ((ArrayChunk) chunk).toBitset();
+        }
+        cardinality++;
+        return true;
+    }
+
+    public boolean remove(int value) {
+        int i = indexOf((char) (value >>> 16));
+        if (i < 0) {
+            return false;
+        }
+        Chunk chunk = chunks[i];
+        if (!chunk.remove((char) value)) {
+            return false;
+        }
+        cardinality--;
+        if (chunk.cardinality() == 0) {
+            removeChunk(i);
+        } else if (chunk instanceof BitsetChunk && chunk.cardinality() <= ARRAY_LIMIT / 2) {
+            chunks[i] = ((BitsetChunk) chunk).toArray();
+        }
+        return true;
+    }
+
+    public boolean contains(int value) {
+        int i = indexOf((char) (value >>> 16));
+        return i >= 0 && chunks[i].contains((char) value);
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public CompressedBitmap copy() {
+        CompressedBitmap result = new CompressedBitmap();
+        result.keys = Arrays.copyOf(keys, Math.max(chunkCount, 4));
+        result.chunks = new Chunk[result.keys.length];
+        for (int i = 0; i < chunkCount; i++) {
+            result.chunks[i] = chunks[i].copy();
+        }
+        result.chunkCount = chunkCount;
+        result.cardinality = cardinality;
+        return result;
+    }
+
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount && j < other.chunkCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Chunk chunk = chunks[i].and(other.chunks[j]);
+                if (chunk.cardinality() > 0) {
+                    result.insertChunk(result.chunkCount, keys[i], chunk);
+                    result.cardinality += chunk.cardinality();
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Size of the intersection, without materialising it.
+     */
+    public int andCardinality(CompressedBitmap other) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount && j < other.chunkCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                count += chunks[i].andCardinality(other.chunks[j]);
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Visits values in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    private int indexOf(char key) {
+        return Arrays.binarySearch(keys, 0, chunkCount, key);
+    }
+
+    private void insertChunk(int index, char key, Chunk chunk) {
+        if (chunkCount == keys.length) {
+            keys = Arrays.copyOf(keys, chunkCount * 2);
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, chunkCount - index);
+        System.arraycopy(chunks, index, chunks, index + 1, chunkCount - index);
+        keys[index] = key;
+        chunks[index] = chunk;
+        chunkCount++;
+    }
+
+    private void removeChunk(int index) {
+        System.arraycopy(keys, index + 1, keys, index, chunkCount - index - 1);
+        System.arraycopy(chunks, index + 1, chunks, index, chunkCount - index - 1);
+        chunks[--chunkCount] = null;
+    }
+
+    private interface Chunk {
+        boolean add(char low);
+
+        boolean remove(char low);
+
+        boolean contains(char low);
+
+        int cardinality();
+
+        Chunk and(Chunk other);
+
+        int andCardinality(Chunk other);
+
+        void forEach(int high, IntConsumer action);
+
+        Chunk copy();
+    }
+
+    private static final class ArrayChunk implements Chunk {
+        private char[] values;
+        private int size;
+
+        ArrayChunk() {
+            this(new char[4], 0);
+        }
+
+        ArrayChunk(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public boolean add(char low) {
+            int i = Arrays.binarySearch(values, 0, size, low);
+            if (i >= 0) {
+                return false;
+            }
+            i = -i - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(size * 2, 4));
+            }
+            System.arraycopy(values, i, values, i + 1, size - i);
+            values[i] = low;
+            size++;
+            return true;
+        }
+
+        @Override
+        public boolean remove(char low) {
+            int i = Arrays.binarySearch(values, 0, size, low);
+            if (i < 0) {
+                return false;
+            }
+            System.arraycopy(values, i + 1, values, i, size - i - 1);
+            size--;
+            return true;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        @Override
+        public Chunk and(Chunk other) {
+            char[] result = new char[size];
+            int n = 0;
+            if (other instanceof ArrayChunk) {
+                ArrayChunk o = (ArrayChunk) other;
+                int i = 0;
+                int j = 0;
+                while (i < size && j < o.size) {
+                    if (values[i] < o.values[j]) {
+                        i++;
+                    } else if (values[i] > o.values[j]) {
+                        j++;
+                    } else {
+                        result[n++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    if (other.contains(values[i])) {
+                        result[n++] = values[i];
+                    }
+                }
+            }
+            return new ArrayChunk(result, n);
+        }
+
+        @Override
+        public int andCardinality(Chunk other) {
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                if (other.contains(values[i])) {
+                    n++;
+                }
+            }
+            return n;
+        }
+
+        @Override
+        public void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        @Override
+        public Chunk copy() {
+            return new ArrayChunk(Arrays.copyOf(values, Math.max(size, 4)), size);
+        }
+
+        BitsetChunk toBitset() {
+            BitsetChunk bitset = new BitsetChunk();
+            for (int i = 0; i < size; i++) {
+                bitset.add(values[i]);
+            }
+            return bitset;
+        }
+    }
+
+    private static final class BitsetChunk implements Chunk {
+        private final long[] words;
+        private int size;
+
+        BitsetChunk() {
+            this(new long[1024], 0);
+        }
+
+        BitsetChunk(long[] words, int size) {
+            this.words = words;
+            this.size = size;
+        }
+
+        @Override
+        public boolean add(char low) {
+            long bit = 1L << low;
+            long word = words[low >>> 6];
+            if ((word & bit) != 0) {
+                return false;
+            }
+            words[low >>> 6] = word | bit;
+            size++;
+            return true;
+        }
+
+        @Override
+        public boolean remove(char low) {
+            long bit = 1L << low;
+            long word = words[low >>> 6];
+            if ((word & bit) == 0) {
+                return false;
+            }
+            words[low >>> 6] = word & ~bit;
+            size--;
+            return true;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        @Override
+        public Chunk and(Chunk other) {
+            if (other instanceof ArrayChunk) {
+                return other.and(this);
+            }
+            long[] o = ((BitsetChunk) other).words;
+            long[] result = new long[words.length];
+            int n = 0;
+            for (int i = 0; i < words.length; i++) {
+                result[i] = words[i] & o[i];
+                n += Long.bitCount(result[i]);
+            }
+            BitsetChunk chunk = new BitsetChunk(result, n);
+            return n > ARRAY_LIMIT ? chunk : chunk.toArray();
+        }
+
+        @Override
+        public int andCardinality(Chunk other) {
+            if (other instanceof ArrayChunk) {
+                return other.andCardinality(this);
+            }
+            long[] o = ((BitsetChunk) other).words;
+            int n = 0;
+            for (int i = 0; i < words.length; i++) {
+                n += Long.bitCount(words[i] & o[i]);
+            }
+            return n;
+        }
+
+        @Override
+        public void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        public Chunk copy() {
+            return new BitsetChunk(words.clone(), size);
+        }
+
+        ArrayChunk toArray() {
+            char[] values = new char[Math.max(size, 4)];
+            int n = 0;
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[n++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayChunk(values, n);
+        }
+    }
+}
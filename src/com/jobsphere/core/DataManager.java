@@ -1,24 +1,102 @@
 package com.jobsphere.core;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DataManager {
     private static DataManager instance;
+    // Overridable so tools such as the load test can run against scratch directories
+    private static final String DATA_DIR = System.getProperty("jobsphere.dataDir", "data");
+    private static final String RESUME_DIR = System.getProperty("jobsphere.resumeDir", "resumes");
+    // PBKDF2-HMAC-SHA256 cost; raising it rehashes each account at its next login
+    private static final int PASSWORD_ITERATIONS = Integer.getInteger("jobsphere.passwordIterations", 310_000);
+    private static final Duration SESSION_IDLE_TIMEOUT = Duration.ofMinutes(30);
+    private static final Duration SESSION_MAX_AGE = Duration.ofHours(12);
+    private static final int MAX_SESSIONS = 1_000_000;
 
     private final UserRepository userRepository;
     private final JobRepository jobRepository;
     private final ApplicationRepository applicationRepository;
 
+    private final PersistenceEngine persistence;
     private final LoginService loginService;
-    private User currentUser;
+    private final PasswordHasher passwordHasher;
+    private final SessionManager sessionManager;
+    private final InvertedIndexSearchStrategy searchStrategy;
+    private final EventBus events;
+    private final FacetIndex facetIndex;
+    private final CandidateSearchService candidateSearch;
+    private final ResumeStorageService resumeStorage;
+    private final ResumeAccessService resumeAccess;
+    private final ResumeIndexer resumeIndexer;
+    // Records applications off the caller's thread; the journal write waits for fsync
+    private final ExecutorService ioExecutor;
+    private final MatchingEngine matchingEngine;
+    private final JobChangeListener matchingUpdater;
+    // Session of the desktop client; server callers hold their own Session
+    private volatile Session currentSession;
 
     private DataManager() {
-        this.userRepository = new InMemoryUserRepository();
-        this.jobRepository = new InMemoryJobRepository();
-        this.applicationRepository = new InMemoryApplicationRepository();
+        this.events = new EventBus();
+        InMemoryUserRepository inMemoryUsers = new InMemoryUserRepository();
+        InMemoryJobRepository inMemoryJobs = new InMemoryJobRepository(events);
+        InMemoryApplicationRepository inMemoryApplications = new InMemoryApplicationRepository(events);
 
-        RealLoginService realLoginService = new RealLoginService(userRepository);
+        this.persistence = new PersistenceEngine(Paths.get(DATA_DIR),
+                inMemoryUsers, inMemoryJobs, inMemoryApplications);
+        persistence.recover();
+        Runtime.getRuntime().addShutdownHook(new Thread(persistence::close));
+
+        this.userRepository = new JournaledUserRepository(inMemoryUsers, persistence);
+        this.jobRepository = new JournaledJobRepository(inMemoryJobs, persistence);
+        this.applicationRepository = new JournaledApplicationRepository(inMemoryApplications, persistence);
+        this.searchStrategy = new InvertedIndexSearchStrategy(inMemoryJobs.getSearchIndex(), inMemoryJobs);
+        this.facetIndex = inMemoryJobs.getFacetIndex();
+        this.candidateSearch = new CandidateSearchService();
+        for (User user : inMemoryUsers.findByRole("APPLICANT")) {
+            candidateSearch.index(user);
+        }
+
+        this.resumeStorage = new ResumeStorageService(Paths.get(RESUME_DIR), 2, 8);
+        this.resumeAccess = new ResumeAccessService(Paths.get(RESUME_DIR));
+        AtomicInteger ioThreads = new AtomicInteger();
+        this.ioExecutor = Executors.newFixedThreadPool(2, r -> {
+            Thread t = new Thread(r, "application-io-" + ioThreads.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.matchingEngine = new MatchingEngine();
+        this.matchingUpdater = job -> matchingEngine.updateJob(job.getId(), matchingText(job));
+        for (Job job : inMemoryJobs.findAll()) {
+            trackForMatching(job);
+        }
+        // Loaded jobs were weighed against a partial corpus; re-weigh them all
+        matchingEngine.rebuild();
+        this.resumeIndexer = new ResumeIndexer(2);
+        resumeIndexer.setTextListener(matchingEngine::updateApplicant);
+        List<Map.Entry<String, String>> resumeOwners = new ArrayList<>();
+        // Read straight from the snapshot; the applications themselves load on demand
+        inMemoryApplications.forEachResume((username, resumePath) -> {
+            resumeStorage.retain(resumePath);
+            if (resumePath != null) {
+                resumeOwners.add(Map.entry(username, resumePath));
+            }
+        });
+        resumeIndexer.backfill(resumeOwners).thenRun(matchingEngine::rebuild);
+
+        this.passwordHasher = new PasswordHasher(PASSWORD_ITERATIONS, 2, 256);
+        RealLoginService realLoginService = new RealLoginService(userRepository, passwordHasher);
         this.loginService = new LoginProxy(realLoginService);
+        this.sessionManager = new SessionManager(SESSION_IDLE_TIMEOUT, SESSION_MAX_AGE, MAX_SESSIONS);
     }
 
     public static synchronized DataManager getInstance() {
@@ -29,45 +107,166 @@ public class DataManager {
     }
 
     // User operations
+    // Expects the user's plaintext password and stores its hash
     public void registerUser(User user) {
+        user.setPassword(passwordHasher.hash(user.getPassword()));
         userRepository.add(user);
+        candidateSearch.index(user);
     }
 
-    public User login(String username, String password) {
+    // Both fields go into one journaled update so neither can be lost alone
+    public void updateProfile(Applicant applicant, String email, String resumePath) {
+        applicant.setEmail(email);
+        applicant.setResumePath(resumePath);
+        userRepository.update(applicant);
+        candidateSearch.index(applicant);
+    }
+
+    // The change and its journal append happen together so a concurrent
+    // save and unsave reach the journal in the order they were applied
+    public void saveJob(Applicant applicant, String jobId) {
+        CompletableFuture<Void> durable;
+        synchronized (applicant) {
+            applicant.saveJob(jobId);
+            durable = persistence.savedJobAdded(applicant, jobId);
+        }
+        durable.join();
+    }
+
+    public void removeSavedJob(Applicant applicant, String jobId) {
+        CompletableFuture<Void> durable;
+        synchronized (applicant) {
+            applicant.removeSavedJob(jobId);
+            durable = persistence.savedJobRemoved(applicant, jobId);
+        }
+        durable.join();
+    }
+
+    public Session openSession(String username, String password) {
         User user = loginService.login(username, password);
-        if (user != null) {
-            this.currentUser = user;
+        return user == null ? null : sessionManager.create(user);
+    }
+
+    public Session openSession(String username, String password, String source) {
+        User user = loginService.login(username, password, source);
+        return user == null ? null : sessionManager.create(user);
+    }
+
+    // Null if the token is unknown or its session has expired
+    public Session validateSession(String token) {
+        return sessionManager.validate(token);
+    }
+
+    public void closeSession(String token) {
+        sessionManager.invalidate(token);
+    }
+
+    public User login(String username, String password) {
+        Session session = openSession(username, password);
+        if (session == null) {
+            return null;
         }
-        return user;
+        this.currentSession = session;
+        return session.getUser();
     }
 
     public void logout() {
-        this.currentUser = null;
+        Session session = currentSession;
+        this.currentSession = null;
+        if (session != null) {
+            sessionManager.invalidate(session.getToken());
+        }
     }
 
     public User getCurrentUser() {
-        return currentUser;
+        Session session = currentSession;
+        return session == null ? null : session.getUser();
+    }
+
+    public User getUser(String username) {
+        return userRepository.findByUsername(username);
     }
 
     public List<User> getAllApplicants() {
         return userRepository.findByRole("APPLICANT");
     }
 
+    // Pages resume after the last username of the previous page; null starts over
+    public Page<User> searchCandidates(String query, String afterUsername, int limit) {
+        return candidateSearch.search(query, afterUsername, limit);
+    }
+
     // Job operations
     public void addJob(Job job) {
         jobRepository.add(job);
+        trackForMatching(job);
     }
 
     public List<Job> getJobs() {
         return jobRepository.findAll();
     }
 
+    public Page<Job> getJobs(int offset, int limit) {
+        return jobRepository.findAll(offset, limit);
+    }
+
+    public List<Job> getActiveJobs() {
+        return jobRepository.findActive();
+    }
+
+    public List<Job> getSavedActiveJobs(Applicant applicant) {
+        return jobRepository.findActiveByIds(applicant.getSavedJobIds());
+    }
+
+    public Job getJob(String jobId) {
+        return jobRepository.findById(jobId);
+    }
+
     public List<Job> getJobsByCompany(String companyUsername) {
         return jobRepository.findByCompany(companyUsername);
     }
 
     public void removeJob(String jobId) {
+        Job job = jobRepository.findById(jobId);
         jobRepository.remove(jobId);
+        if (job != null) {
+            job.removeChangeListener(matchingUpdater);
+            matchingEngine.removeJob(jobId);
+        }
+    }
+
+    public List<Match> getTopCandidates(String jobId, int count) {
+        return matchingEngine.topCandidates(jobId, count);
+    }
+
+    public List<Match> getRecommendedJobs(String username, int count) {
+        return matchingEngine.topJobs(username, count);
+    }
+
+    private void trackForMatching(Job job) {
+        matchingUpdater.onJobChanged(job);
+        job.addChangeListener(matchingUpdater);
+    }
+
+    private static String matchingText(Job job) {
+        return job.getTitle() + " " + job.getRequirements();
+    }
+
+    public SearchStrategy getSearchStrategy() {
+        return searchStrategy;
+    }
+
+    // Ranked over every active job straight from the index, without copying them
+    public List<Job> searchJobs(String query) {
+        return searchStrategy.search(query);
+    }
+
+    public FacetIndex getFacetIndex() {
+        return facetIndex;
+    }
+
+    public EventBus getEventBus() {
+        return events;
     }
 
     // Application operations
@@ -75,10 +274,71 @@ public class DataManager {
         applicationRepository.add(app);
     }
 
+    /**
+     * Uploads the resume in the background and records the application only
+     * once the stored copy is complete. Identical resumes share one stored file.
+     * The application is recorded on an I/O thread even when the upload was
+     * already complete, so the caller never waits on the journal.
+     */
+    public CompletableFuture<JobApplication> applyToJob(User applicant, Job job, Path resume,
+                                                        ResumeStorageService.ProgressListener progress) {
+        return resumeStorage.store(resume, progress)
+                .thenApplyAsync(stored -> {
+                    JobApplication app = new JobApplication(applicant.getUsername(), job, stored.toString());
+                    try {
+                        addApplication(app);
+                    } catch (RuntimeException e) {
+                        resumeStorage.release(stored.toString());
+                        throw e;
+                    }
+                    resumeIndexer.submit(applicant.getUsername(), stored.toString());
+                    return app;
+                }, ioExecutor);
+    }
+
+    public ResumeAccessService getResumeAccess() {
+        return resumeAccess;
+    }
+
+    public List<User> searchResumes(String query) {
+        List<User> result = new ArrayList<>();
+        for (String username : resumeIndexer.search(query)) {
+            User user = userRepository.findByUsername(username);
+            if (user != null) {
+                result.add(user);
+            }
+        }
+        return result;
+    }
+
     public List<JobApplication> getApplicationsForJob(String jobId) {
         return applicationRepository.findByJobId(jobId);
     }
 
+    public List<JobApplication> getApplicationsForJobs(Collection<String> jobIds) {
+        return applicationRepository.findByJobIds(jobIds);
+    }
+
+    public Page<JobApplication> getApplicationsForJobs(Collection<String> jobIds, int offset, int limit) {
+        return applicationRepository.findByJobIds(jobIds, offset, limit);
+    }
+
+    public JobApplication getApplication(String username, String jobId) {
+        return applicationRepository.findByUsernameAndJobId(username, jobId);
+    }
+
+    public JobApplication getApplication(String applicationId) {
+        return applicationRepository.findById(applicationId);
+    }
+
+    public JobApplication advanceApplication(String applicationId) {
+        return applicationRepository.advance(applicationId);
+    }
+
+    public JobApplication rejectApplication(String applicationId) {
+        return applicationRepository.reject(applicationId);
+    }
+
     public List<JobApplication> getApplicationsByUser(String username) {
         return applicationRepository.findByUsername(username);
     }
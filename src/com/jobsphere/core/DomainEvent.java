@@ -0,0 +1,47 @@
+package com.jobsphere.core;
+
+/**
+ * A change to a job or application, published through the {@link EventBus}.
+ * Job events carry the job; application events carry the application.
+ */
+public class DomainEvent {
+
+    public enum Type {
+        JOB_ADDED, JOB_REMOVED, JOB_UPDATED, APPLICATION_ADDED, STATE_CHANGED
+    }
+
+    private final Type type;
+    private final Job job;
+    private final JobApplication application;
+
+    private DomainEvent(Type type, Job job, JobApplication application) {
+        this.type = type;
+        this.job = job;
+        this.application = application;
+    }
+
+    static DomainEvent forJob(Type type, Job job) {
+        return new DomainEvent(type, job, null);
+    }
+
+    static DomainEvent forApplication(Type type, JobApplication application) {
+        return new DomainEvent(type, application.getJob(), application);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public JobApplication getApplication() {
+        return application;
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + (application != null ? application.getApplicantUsername() + " -> " : "") + job;
+    }
+}
@@ -0,0 +1,7 @@
+package com.jobsphere.core;
+
+import java.util.List;
+
+public interface DomainEventListener {
+    void onEvents(List<DomainEvent> batch);
+}
@@ -0,0 +1,91 @@
+package com.jobsphere.core;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Delivers domain events to listeners on a single dispatcher thread.
+ * Publishing never blocks the caller; events that pile up while listeners
+ * are busy are coalesced and handed over as one batch, in publish order.
+ */
+public class EventBus implements AutoCloseable {
+    private static final int MAX_BATCH = 4096;
+
+    private final BlockingQueue<DomainEvent> queue = new LinkedBlockingQueue<>();
+    private final List<DomainEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    public EventBus() {
+        dispatcher = new Thread(this::dispatchLoop, "event-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    public void subscribe(DomainEventListener listener) {
+        listeners.add(listener);
+    }
+
+    public void unsubscribe(DomainEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void publish(DomainEvent event) {
+        if (running) {
+            queue.add(event);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        dispatcher.interrupt();
+    }
+
+    private void dispatchLoop() {
+        List<DomainEvent> drained = new ArrayList<>();
+        while (running) {
+            try {
+                drained.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(drained, MAX_BATCH - 1);
+            List<DomainEvent> batch = coalesce(drained);
+            drained.clear();
+            for (DomainEventListener listener : listeners) {
+                try {
+                    listener.onEvents(batch);
+                } catch (RuntimeException e) {
+                    System.out.println("[EventBus] Listener failed: " + e);
+                }
+            }
+        }
+    }
+
+    // Repeated update events for the same job or application collapse into the
+    // first one, since listeners re-read current state when they apply it.
+    // Add/remove events are kept as-is so their order is preserved.
+    private static List<DomainEvent> coalesce(List<DomainEvent> events) {
+        Map<Object, Boolean> updatedJobs = new IdentityHashMap<>();
+        Map<Object, Boolean> changedApplications = new IdentityHashMap<>();
+        List<DomainEvent> batch = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            if (event.getType() == DomainEvent.Type.JOB_UPDATED
+                    && updatedJobs.put(event.getJob(), Boolean.TRUE) != null) {
+                continue;
+            }
+            if (event.getType() == DomainEvent.Type.STATE_CHANGED
+                    && changedApplications.put(event.getApplication(), Boolean.TRUE) != null) {
+                continue;
+            }
+            batch.add(event);
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,200 @@
+package com.jobsphere.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-value job bitmaps for structured filtering. Each job gets a dense slot
+ * number; a filter combination is the intersection of the selected values'
+ * bitmaps, and a value's count is its bitmap's cardinality.
+ */
+public class FacetIndex {
+    public static final String COMPANY = "company";
+    public static final String ACTIVE = "active";
+    public static final String REQUIREMENT = "requirement";
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> slotsByJobId = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private Job[] jobs = new Job[64];
+    private FacetValue[][] valuesBySlot = new FacetValue[64][];
+    private int nextSlot;
+    private final CompressedBitmap all = new CompressedBitmap();
+    // facet -> value -> slots
+    private final Map<String, Map<String, CompressedBitmap>> facets = new HashMap<>();
+
+    public void add(Job job) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsByJobId.get(job.getId());
+            if (slot == null) {
+                slot = freeSlots.isEmpty() ? nextSlot++ : freeSlots.pop();
+                slotsByJobId.put(job.getId(), slot);
+                all.add(slot);
+                if (slot >= jobs.length) {
+                    jobs = Arrays.copyOf(jobs, jobs.length * 2);
+                    valuesBySlot = Arrays.copyOf(valuesBySlot, valuesBySlot.length * 2);
+                }
+            } else {
+                unlinkValues(slot);
+            }
+            jobs[slot] = job;
+            FacetValue[] values = valuesOf(job);
+            for (FacetValue value : values) {
+                facets.computeIfAbsent(value.facet, f -> new HashMap<>())
+                        .computeIfAbsent(value.value, v -> new CompressedBitmap())
+                        .add(slot);
+            }
+            valuesBySlot[slot] = values;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String jobId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsByJobId.remove(jobId);
+            if (slot != null) {
+                unlinkValues(slot);
+                jobs[slot] = null;
+                valuesBySlot[slot] = null;
+                all.remove(slot);
+                freeSlots.push(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Slots matching every selected facet value (facet -> value); an empty
+     * selection matches all jobs. The result is a private copy.
+     */
+    public CompressedBitmap select(Map<String, String> selections) {
+        lock.readLock().lock();
+        try {
+            CompressedBitmap result = null;
+            for (Map.Entry<String, String> selection : selections.entrySet()) {
+                CompressedBitmap bitmap = bitmap(selection.getKey(), selection.getValue());
+                if (bitmap == null) {
+                    return new CompressedBitmap();
+                }
+                result = result == null ? bitmap.copy() : result.and(bitmap);
+            }
+            return result == null ? all.copy() : result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Value counts for one facet, largest first.
+     */
+    public Map<String, Integer> counts(String facet) {
+        return counts(facet, null);
+    }
+
+    /**
+     * Value counts for one facet restricted to {@code within}, largest first;
+     * values with no jobs in the restriction are left out.
+     */
+    public Map<String, Integer> counts(String facet, CompressedBitmap within) {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<String, CompressedBitmap> e : facets.getOrDefault(facet, Map.of()).entrySet()) {
+                int count = within == null ? e.getValue().cardinality() : e.getValue().andCardinality(within);
+                if (count > 0) {
+                    entries.add(Map.entry(e.getKey(), count));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> e : entries) {
+            result.put(e.getKey(), e.getValue());
+        }
+        return result;
+    }
+
+    public List<Job> jobs(CompressedBitmap slots) {
+        List<Job> result = new ArrayList<>(slots.cardinality());
+        lock.readLock().lock();
+        try {
+            slots.forEach(slot -> {
+                if (slot < jobs.length && jobs[slot] != null) {
+                    result.add(jobs[slot]);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public boolean contains(CompressedBitmap slots, Job job) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsByJobId.get(job.getId());
+            return slot != null && jobs[slot] == job && slots.contains(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private CompressedBitmap bitmap(String facet, String value) {
+        Map<String, CompressedBitmap> values = facets.get(facet);
+        return values == null ? null : values.get(value);
+    }
+
+    private void unlinkValues(int slot) {
+        FacetValue[] values = valuesBySlot[slot];
+        if (values == null) {
+            return;
+        }
+        for (FacetValue value : values) {
+            Map<String, CompressedBitmap> byValue = facets.get(value.facet);
+            CompressedBitmap bitmap = byValue.get(value.value);
+            bitmap.remove(slot);
+            if (bitmap.isEmpty()) {
+                byValue.remove(value.value);
+            }
+        }
+    }
+
+    private static FacetValue[] valuesOf(Job job) {
+        List<FacetValue> values = new ArrayList<>();
+        values.add(new FacetValue(COMPANY, job.getCompanyUsername()));
+        values.add(new FacetValue(ACTIVE, String.valueOf(job.isActive())));
+        Set<String> keywords = new LinkedHashSet<>();
+        for (String term : Tokenizer.tokenize(job.getRequirements())) {
+            if (term.length() > 1 && !Tokenizer.isStopWord(term) && keywords.add(term)) {
+                values.add(new FacetValue(REQUIREMENT, term));
+            }
+        }
+        return values.toArray(new FacetValue[0]);
+    }
+
+    private static final class FacetValue {
+        final String facet;
+        final String value;
+
+        FacetValue(String facet, String value) {
+            this.facet = facet;
+            this.value = value;
+        }
+    }
+}
@@ -1,36 +1,338 @@
 package com.jobsphere.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
 
-public class InMemoryApplicationRepository implements ApplicationRepository {
+/**
+ * Applications indexed by id, job, username and (username, jobId). With a
+ * loader attached, applications still in the backing store are materialized
+ * a job at a time, the first time a lookup needs one of them.
+ */
+public class InMemoryApplicationRepository implements ApplicationRepository, ApplicationStateListener {
+    // Primary index, readable without locking
+    private final Map<String, JobApplication> applicationsById = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
     private final List<JobApplication> applications = new ArrayList<>();
+    private final Map<String, List<JobApplication>> applicationsByJobId = new HashMap<>();
+    private final Map<String, List<JobApplication>> applicationsByUsername = new HashMap<>();
+    // Composite (username, jobId) key; holds the latest application for the pair
+    private final Map<String, Map<String, JobApplication>> applicationsByUserAndJob = new HashMap<>();
+    private final EventBus events;
+    // Jobs whose applications are still only in the loader; a job leaves the
+    // set once its applications are indexed, and the loader goes with the last
+    private final Set<String> unloadedJobs = ConcurrentHashMap.newKeySet();
+    private volatile ApplicationLoader loader;
+
+    public InMemoryApplicationRepository() {
+        this(null);
+    }
+
+    public InMemoryApplicationRepository(EventBus events) {
+        this.events = events;
+    }
 
     @Override
     public void add(JobApplication application) {
+        // Stored applications of the job go first, so the job's list keeps its order
+        ensureLoaded(application.getJob().getId());
+        lock.writeLock().lock();
+        try {
+            if (applicationsById.putIfAbsent(application.getId(), application) != null) {
+                throw new IllegalArgumentException("Application already exists: " + application.getId());
+            }
+            index(application);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (events != null) {
+            application.addStateListener(this);
+            events.publish(DomainEvent.forApplication(DomainEvent.Type.APPLICATION_ADDED, application));
+        }
+    }
+
+    /**
+     * Serves the loader's applications without materializing them now. Must
+     * be attached before anything else is added.
+     */
+    public void setLoader(ApplicationLoader loader) {
+        lock.writeLock().lock();
+        try {
+            unloadedJobs.addAll(loader.jobIds());
+            this.loader = unloadedJobs.isEmpty() ? null : loader;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Passes (username, resume path) for every application, reading those
+     * still in the loader without materializing them.
+     */
+    public void forEachResume(BiConsumer<String, String> action) {
+        lock.readLock().lock();
+        try {
+            for (JobApplication application : applications) {
+                action.accept(application.getApplicantUsername(), application.getResumePath());
+            }
+            ApplicationLoader source = loader;
+            if (source != null) {
+                for (String jobId : unloadedJobs) {
+                    source.forEachResume(jobId, action);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Applications materialized so far, without loading the rest
+    public List<JobApplication> findLoaded() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(applications);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Every application, with those still in the loader decoded as throwaway
+     * copies rather than indexed. Unloaded applications cannot have changed,
+     * so the copies are exact; suited to writing them back out.
+     */
+    public List<JobApplication> copyAll() {
+        lock.readLock().lock();
+        try {
+            List<JobApplication> result = new ArrayList<>(applications);
+            ApplicationLoader source = loader;
+            if (source != null) {
+                for (String jobId : unloadedJobs) {
+                    result.addAll(source.load(jobId));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(JobApplication application) {
+        String jobId = application.getJob().getId();
+        String username = application.getApplicantUsername();
         applications.add(application);
+        applicationsByJobId.computeIfAbsent(jobId, k -> new ArrayList<>()).add(application);
+        applicationsByUsername.computeIfAbsent(username, k -> new ArrayList<>()).add(application);
+        applicationsByUserAndJob.computeIfAbsent(username, k -> new HashMap<>()).put(jobId, application);
+    }
+
+    // Must be called without holding the lock
+    private void ensureLoaded(String jobId) {
+        if (loader == null || !unloadedJobs.contains(jobId)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            load(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock. The job leaves unloadedJobs only once its
+    // applications are indexed, so lock-free findById never misses one.
+    private void load(String jobId) {
+        ApplicationLoader source = loader;
+        if (source == null || !unloadedJobs.contains(jobId)) {
+            return;
+        }
+        for (JobApplication application : source.load(jobId)) {
+            applicationsById.put(application.getId(), application);
+            index(application);
+            source.loaded(application);
+            if (events != null) {
+                application.addStateListener(this);
+            }
+        }
+        unloadedJobs.remove(jobId);
+        if (unloadedJobs.isEmpty()) {
+            loader = null;
+        }
+    }
+
+    private void loadAll() {
+        if (loader == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (String jobId : new ArrayList<>(unloadedJobs)) {
+                load(jobId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onStateChanged(JobApplication application) {
+        events.publish(DomainEvent.forApplication(DomainEvent.Type.STATE_CHANGED, application));
+    }
+
+    @Override
+    public JobApplication findById(String applicationId) {
+        JobApplication application = applicationsById.get(applicationId);
+        ApplicationLoader source = loader;
+        if (application == null && source != null) {
+            String jobId = source.jobIdOf(applicationId);
+            if (jobId != null) {
+                ensureLoaded(jobId);
+                application = applicationsById.get(applicationId);
+            }
+        }
+        return application;
     }
 
     @Override
     public List<JobApplication> findByJobId(String jobId) {
+        ensureLoaded(jobId);
+        lock.readLock().lock();
+        try {
+            return copyOf(applicationsByJobId.get(jobId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<JobApplication> findByJobIds(Collection<String> jobIds) {
+        for (String jobId : jobIds) {
+            ensureLoaded(jobId);
+        }
         List<JobApplication> result = new ArrayList<>();
-        for (JobApplication app : applications) {
-            if (app.getJob().getId().equals(jobId)) {
-                result.add(app);
+        lock.readLock().lock();
+        try {
+            for (String jobId : jobIds) {
+                List<JobApplication> apps = applicationsByJobId.get(jobId);
+                if (apps != null) {
+                    result.addAll(apps);
+                }
             }
+        } finally {
+            lock.readLock().unlock();
         }
         return result;
     }
 
+    @Override
+    public Page<JobApplication> findByJobIds(Collection<String> jobIds, int offset, int limit) {
+        int start = Math.max(offset, 0);
+        int remaining = Math.max(limit, 0);
+        List<JobApplication> items = new ArrayList<>(Math.min(remaining, 1024));
+        int total = 0;
+        for (String jobId : jobIds) {
+            ensureLoaded(jobId);
+        }
+        lock.readLock().lock();
+        try {
+            for (String jobId : jobIds) {
+                List<JobApplication> apps = applicationsByJobId.get(jobId);
+                if (apps == null) {
+                    continue;
+                }
+                // Whole lists before the offset are skipped by size alone
+                int from = Math.max(start - total, 0);
+                if (remaining > 0 && from < apps.size()) {
+                    int to = Math.min(apps.size(), from + remaining);
+                    items.addAll(apps.subList(from, to));
+                    remaining -= to - from;
+                }
+                total += apps.size();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new Page<>(items, Math.min(start, total), total);
+    }
+
     @Override
     public List<JobApplication> findByUsername(String username) {
-        List<JobApplication> result = new ArrayList<>();
-        for (JobApplication app : applications) {
-            if (app.getApplicantUsername().equals(username)) {
-                result.add(app);
+        ApplicationLoader source = loader;
+        if (source != null) {
+            for (String jobId : source.jobIdsOf(username)) {
+                ensureLoaded(jobId);
             }
         }
-        return result;
+        lock.readLock().lock();
+        try {
+            return copyOf(applicationsByUsername.get(username));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public JobApplication findByUsernameAndJobId(String username, String jobId) {
+        ensureLoaded(jobId);
+        lock.readLock().lock();
+        try {
+            Map<String, JobApplication> byJob = applicationsByUserAndJob.get(username);
+            return byJob == null ? null : byJob.get(jobId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<JobApplication> findAll() {
+        loadAll();
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(applications);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public JobApplication advance(String applicationId) {
+        return transition(applicationId, false);
+    }
+
+    @Override
+    public JobApplication reject(String applicationId) {
+        return transition(applicationId, true);
+    }
+
+    // The write lock serialises transitions, so concurrent moves of one
+    // application cannot skip or repeat a stage
+    private JobApplication transition(String applicationId, boolean reject) {
+        findById(applicationId); // materializes it if it is still only stored
+        lock.writeLock().lock();
+        try {
+            JobApplication application = applicationsById.get(applicationId);
+            if (application != null) {
+                if (reject) {
+                    application.reject();
+                } else {
+                    application.next();
+                }
+            }
+            return application;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<JobApplication> copyOf(List<JobApplication> apps) {
+        return apps == null ? new ArrayList<>() : new ArrayList<>(apps);
     }
 
 }
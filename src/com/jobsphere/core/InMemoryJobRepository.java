@@ -1,42 +1,199 @@
 package com.jobsphere.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
-public class InMemoryJobRepository implements JobRepository {
-    private final List<Job> jobs = new ArrayList<>();
+public class InMemoryJobRepository implements JobRepository, JobChangeListener {
+    // Primary index, readable without locking
+    private final Map<String, Job> jobsById = new ConcurrentHashMap<>();
+
+    // Ordering and secondary indexes, guarded by lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Job> jobsInOrder = new LinkedHashMap<>();
+    // Only active jobs are kept here and in the search index
+    private final Map<String, Job> activeJobs = new LinkedHashMap<>();
+    private final Map<String, Set<Job>> jobsByCompany = new HashMap<>();
+    private final InvertedIndex searchIndex = new InvertedIndex();
+    private final FacetIndex facetIndex = new FacetIndex();
+    // Positional view of jobsInOrder for paging; rebuilt lazily after a mutation
+    private volatile List<Job> orderedView;
+    private final EventBus events;
+
+    public InMemoryJobRepository() {
+        this(null);
+    }
+
+    public InMemoryJobRepository(EventBus events) {
+        this.events = events;
+    }
 
     @Override
     public void add(Job job) {
-        jobs.add(job);
+        lock.writeLock().lock();
+        try {
+            orderedView = null;
+            Job previous = jobsInOrder.put(job.getId(), job);
+            if (previous != null) {
+                unlink(previous);
+                publish(DomainEvent.Type.JOB_REMOVED, previous);
+            }
+            jobsById.put(job.getId(), job);
+            jobsByCompany.computeIfAbsent(job.getCompanyUsername(), c -> new LinkedHashSet<>()).add(job);
+            updateActive(job);
+            facetIndex.add(job);
+            job.addChangeListener(this);
+            publish(DomainEvent.Type.JOB_ADDED, job);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public void remove(String jobId) {
-        jobs.removeIf(j -> j.getId().equals(jobId));
+        lock.writeLock().lock();
+        try {
+            Job job = jobsInOrder.remove(jobId);
+            if (job != null) {
+                orderedView = null;
+                jobsById.remove(jobId);
+                unlink(job);
+                publish(DomainEvent.Type.JOB_REMOVED, job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public Job findById(String jobId) {
-        return jobs.stream()
-                .filter(j -> j.getId().equals(jobId))
-                .findFirst()
-                .orElse(null);
+        return jobsById.get(jobId);
     }
 
     @Override
     public List<Job> findAll() {
-        return new ArrayList<>(jobs);
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(jobsInOrder.values());
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
-    public List<Job> findByCompany(String companyUsername) {
+    public Page<Job> findAll(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Job> view = orderedView;
+            if (view == null) {
+                // Racing readers build identical copies; writers are excluded by the lock
+                view = new ArrayList<>(jobsInOrder.values());
+                orderedView = view;
+            }
+            int from = Math.min(Math.max(offset, 0), view.size());
+            int to = Math.min(from + Math.max(limit, 0), view.size());
+            return new Page<>(new ArrayList<>(view.subList(from, to)), from, view.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Job> findActive() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(activeJobs.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Job> findActiveByIds(Collection<String> jobIds) {
         List<Job> result = new ArrayList<>();
-        for (Job j : jobs) {
-            if (j.getCompanyUsername().equals(companyUsername)) {
-                result.add(j);
+        lock.readLock().lock();
+        try {
+            for (String jobId : jobIds) {
+                Job job = activeJobs.get(jobId);
+                if (job != null) {
+                    result.add(job);
+                }
             }
+        } finally {
+            lock.readLock().unlock();
         }
         return result;
     }
+
+    @Override
+    public List<Job> findByCompany(String companyUsername) {
+        lock.readLock().lock();
+        try {
+            Set<Job> companyJobs = jobsByCompany.get(companyUsername);
+            return companyJobs == null ? new ArrayList<>() : new ArrayList<>(companyJobs);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onJobChanged(Job job) {
+        lock.writeLock().lock();
+        try {
+            // Ignore late notifications from a job that was removed concurrently
+            if (jobsInOrder.get(job.getId()) == job) {
+                updateActive(job);
+                facetIndex.add(job);
+                publish(DomainEvent.Type.JOB_UPDATED, job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public InvertedIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    public FacetIndex getFacetIndex() {
+        return facetIndex;
+    }
+
+    private void publish(DomainEvent.Type type, Job job) {
+        if (events != null) {
+            events.publish(DomainEvent.forJob(type, job));
+        }
+    }
+
+    private void unlink(Job job) {
+        job.removeChangeListener(this);
+        Set<Job> companyJobs = jobsByCompany.get(job.getCompanyUsername());
+        if (companyJobs != null) {
+            companyJobs.remove(job);
+            if (companyJobs.isEmpty()) {
+                jobsByCompany.remove(job.getCompanyUsername());
+            }
+        }
+        activeJobs.remove(job.getId());
+        searchIndex.remove(job.getId());
+        facetIndex.remove(job.getId());
+    }
+
+    private void updateActive(Job job) {
+        if (job.isActive()) {
+            activeJobs.put(job.getId(), job);
+            searchIndex.index(job.getId(), job.getTitle() + " " + job.getDescription());
+        } else {
+            activeJobs.remove(job.getId());
+            searchIndex.remove(job.getId());
+        }
+    }
 }
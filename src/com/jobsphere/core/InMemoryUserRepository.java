@@ -2,31 +2,47 @@ package com.jobsphere.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 public class InMemoryUserRepository implements UserRepository {
-    private final List<User> users = new ArrayList<>();
+    private final Map<String, User> usersByUsername = new ConcurrentHashMap<>();
+    private final Queue<User> usersInOrder = new ConcurrentLinkedQueue<>();
+    // Role partitions kept in registration order
+    private final Map<String, Queue<User>> usersByRole = new ConcurrentHashMap<>();
 
     @Override
     public void add(User user) {
-        users.add(user);
+        if (usersByUsername.putIfAbsent(user.getUsername(), user) != null) {
+            throw new IllegalArgumentException("Username already exists: " + user.getUsername());
+        }
+        usersInOrder.add(user);
+        usersByRole.computeIfAbsent(user.getRole(), r -> new ConcurrentLinkedQueue<>()).add(user);
+    }
+
+    @Override
+    public void update(User user) {
+        // Users are held by reference and indexed only by immutable fields
+        if (usersByUsername.get(user.getUsername()) != user) {
+            throw new IllegalArgumentException("Unknown user: " + user.getUsername());
+        }
     }
 
     @Override
     public User findByUsername(String username) {
-        return users.stream()
-                .filter(u -> u.getUsername().equals(username))
-                .findFirst()
-                .orElse(null);
+        return usersByUsername.get(username);
     }
 
     @Override
     public List<User> findByRole(String role) {
-        List<User> result = new ArrayList<>();
-        for (User u : users) {
-            if (u.getRole().equals(role)) {
-                result.add(u);
-            }
-        }
-        return result;
+        Queue<User> partition = usersByRole.get(role);
+        return partition == null ? new ArrayList<>() : new ArrayList<>(partition);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return new ArrayList<>(usersInOrder);
     }
 }
@@ -0,0 +1,200 @@
+package com.jobsphere.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class InvertedIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Shorter query terms match exactly; longer ones also match as prefixes
+    private static final int MIN_PREFIX_LENGTH = 2;
+    // Score weight of a term matched only by prefix, so exact matches rank first
+    private static final double PREFIX_WEIGHT = 0.5;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // term -> (document id -> term frequency), sorted so prefixes are ranges
+    private final NavigableMap<String, Map<String, Integer>> postings = new TreeMap<>();
+    private final Map<String, Integer> docLengths = new HashMap<>();
+    private final Map<String, Set<String>> docTerms = new HashMap<>();
+    private long totalLength = 0;
+
+    public void index(String docId, String text) {
+        List<String> terms = Tokenizer.tokenize(text);
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        for (String term : terms) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        lock.writeLock().lock();
+        try {
+            removeDocument(docId);
+            for (Map.Entry<String, Integer> e : frequencies.entrySet()) {
+                postings.computeIfAbsent(e.getKey(), t -> new HashMap<>()).put(docId, e.getValue());
+            }
+            docLengths.put(docId, terms.size());
+            docTerms.put(docId, frequencies.keySet());
+            totalLength += terms.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String docId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeDocument(String docId) {
+        Set<String> terms = docTerms.remove(docId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<String, Integer> list = postings.get(term);
+            list.remove(docId);
+            if (list.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= docLengths.remove(docId);
+    }
+
+    public boolean contains(String docId) {
+        lock.readLock().lock();
+        try {
+            return docLengths.containsKey(docId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docLengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns matching document ids ranked by BM25 score. Terms are combined
+     * with AND unless the query contains the OR operator, e.g. "java OR kotlin".
+     * Each query term also matches the indexed terms it is a prefix of, so
+     * "jav" finds "java" while it is still being typed.
+     */
+    public List<String> search(String query) {
+        boolean matchAny = false;
+        Set<String> terms = new LinkedHashSet<>();
+        if (query != null) {
+            for (String word : query.trim().split("\\s+")) {
+                if (word.equals("OR")) {
+                    matchAny = true;
+                } else if (!word.equals("AND")) {
+                    terms.addAll(Tokenizer.tokenize(word));
+                }
+            }
+        }
+        if (terms.isEmpty()) {
+            return new ArrayList<>();
+        }
+        lock.readLock().lock();
+        try {
+            return rank(terms, matchAny);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<String> rank(Set<String> terms, boolean matchAny) {
+        List<Map<String, Integer>> lists = new ArrayList<>();
+        // Each indexed term's posting list that matched, with its score weight
+        Map<Map<String, Integer>, Double> scored = new IdentityHashMap<>();
+        for (String term : terms) {
+            Map<String, Integer> list = expand(term, scored);
+            if (list != null) {
+                lists.add(list);
+            } else if (!matchAny) {
+                return new ArrayList<>();
+            }
+        }
+        if (lists.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<String> candidates = new LinkedHashSet<>();
+        if (matchAny) {
+            for (Map<String, Integer> list : lists) {
+                candidates.addAll(list.keySet());
+            }
+        } else {
+            // Walk the shortest posting list and probe the others
+            lists.sort(Comparator.comparingInt(Map::size));
+            for (String docId : lists.get(0).keySet()) {
+                boolean inAll = true;
+                for (int i = 1; i < lists.size() && inAll; i++) {
+                    inAll = lists.get(i).containsKey(docId);
+                }
+                if (inAll) {
+                    candidates.add(docId);
+                }
+            }
+        }
+
+        int docCount = docLengths.size();
+        double avgLength = docCount == 0 ? 0 : (double) totalLength / docCount;
+        Map<String, Double> scores = new HashMap<>();
+        for (Map.Entry<Map<String, Integer>, Double> entry : scored.entrySet()) {
+            Map<String, Integer> list = entry.getKey();
+            double idf = Math.log(1 + (docCount - list.size() + 0.5) / (list.size() + 0.5));
+            for (String docId : candidates) {
+                Integer tf = list.get(docId);
+                if (tf == null) {
+                    continue;
+                }
+                double norm = avgLength == 0 ? 1 : docLengths.get(docId) / avgLength;
+                double score = entry.getValue() * idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * norm));
+                scores.merge(docId, score, Double::sum);
+            }
+        }
+
+        List<String> ranked = new ArrayList<>(candidates);
+        ranked.sort((a, b) -> Double.compare(scores.get(b), scores.get(a)));
+        return ranked;
+    }
+
+    // Documents containing the term or any term it prefixes, or null if none.
+    // Every matching posting list is added to scored with its weight.
+    private Map<String, Integer> expand(String term, Map<Map<String, Integer>, Double> scored) {
+        Map<String, Map<String, Integer>> matches = term.length() < MIN_PREFIX_LENGTH
+                ? (postings.containsKey(term) ? Map.of(term, postings.get(term)) : Map.of())
+                : postings.subMap(term, true, term + Character.MAX_VALUE, false);
+        for (Map.Entry<String, Map<String, Integer>> match : matches.entrySet()) {
+            scored.merge(match.getValue(), match.getKey().equals(term) ? 1.0 : PREFIX_WEIGHT, Math::max);
+        }
+        if (matches.size() <= 1) {
+            return matches.isEmpty() ? null : matches.values().iterator().next();
+        }
+        Map<String, Integer> merged = new HashMap<>();
+        for (Map<String, Integer> list : matches.values()) {
+            for (Map.Entry<String, Integer> e : list.entrySet()) {
+                merged.merge(e.getKey(), e.getValue(), Integer::sum);
+            }
+        }
+        return merged;
+    }
+}
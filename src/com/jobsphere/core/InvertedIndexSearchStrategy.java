@@ -0,0 +1,67 @@
+package com.jobsphere.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranked full-text search over an InvertedIndex kept up to date by the job
+ * repository, which indexes active jobs only. An empty query returns allJobs
+ * unchanged; otherwise the index ranks the matches and only those found in
+ * allJobs are returned, best first. Query terms match as prefixes.
+ * search(query) ranks over every indexed job without needing a list.
+ */
+public class InvertedIndexSearchStrategy implements SearchStrategy {
+    private final InvertedIndex index;
+    private final JobRepository jobRepository;
+
+    public InvertedIndexSearchStrategy(InvertedIndex index, JobRepository jobRepository) {
+        this.index = index;
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * Ranked matches among all active jobs; an empty query matches none.
+     */
+    public List<Job> search(String query) {
+        List<Job> result = new ArrayList<>();
+        for (String jobId : index.search(query)) {
+            Job job = jobRepository.findById(jobId);
+            if (job != null) {
+                result.add(job);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Job> search(List<Job> allJobs, String query) {
+        if (query == null || query.trim().isEmpty()) {
+            return allJobs;
+        }
+        List<String> ranked = index.search(query);
+        List<Job> result = new ArrayList<>();
+        if (ranked.isEmpty()) {
+            return result;
+        }
+        Map<String, Integer> rankById = new HashMap<>();
+        for (int i = 0; i < ranked.size(); i++) {
+            rankById.put(ranked.get(i), i);
+        }
+        // Placing each match at its rank avoids sorting
+        Job[] byRank = new Job[ranked.size()];
+        for (Job job : allJobs) {
+            Integer rank = rankById.get(job.getId());
+            if (rank != null) {
+                byRank[rank] = job;
+            }
+        }
+        for (Job job : byRank) {
+            if (job != null) {
+                result.add(job);
+            }
+        }
+        return result;
+    }
+}
@@ -1,12 +1,16 @@
 package com.jobsphere.core;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 public class Job {
     private String id;
-    private String title;
+    private volatile String title;
     private String description;
     private String companyUsername;
     private String requirements;
-    private boolean isActive;
+    private volatile boolean isActive;
+    private final List<JobChangeListener> listeners = new CopyOnWriteArrayList<>();
 
     public Job(String id, String title, String description, String companyUsername, String requirements) {
         this.id = id;
@@ -44,10 +48,26 @@ public class Job {
 
     public void setActive(boolean active) {
         this.isActive = active;
+        notifyChanged();
     }
 
     public void setTitle(String title) {
         this.title = title;
+        notifyChanged();
+    }
+
+    void addChangeListener(JobChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    void removeChangeListener(JobChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifyChanged() {
+        for (JobChangeListener listener : listeners) {
+            listener.onJobChanged(this);
+        }
     }
 
     @Override
@@ -1,25 +1,44 @@
 package com.jobsphere.core;
 
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 public class JobApplication {
+    private final String id;
     private String applicantUsername;
     private Job job;
-    private ApplicationState state;
+    private volatile ApplicationState state;
+    private final List<ApplicationStateListener> listeners = new CopyOnWriteArrayList<>();
 
     private String resumePath;
 
     public JobApplication(String applicantUsername, Job job, String resumePath) {
+        this(UUID.randomUUID().toString(), applicantUsername, job, resumePath);
+    }
+
+    // Recreates an application with the id it was persisted under
+    JobApplication(String id, String applicantUsername, Job job, String resumePath) {
+        this.id = id;
         this.applicantUsername = applicantUsername;
         this.job = job;
         this.resumePath = resumePath;
         this.state = new AppliedState(); // Initial state
     }
 
+    public String getId() {
+        return id;
+    }
+
     public String getResumePath() {
         return resumePath;
     }
 
     public void setState(ApplicationState state) {
         this.state = state;
+        for (ApplicationStateListener listener : listeners) {
+            listener.onStateChanged(this);
+        }
     }
 
     public String getStatus() {
@@ -31,7 +50,7 @@ public class JobApplication {
     }
 
     public void reject() {
-        this.state = new RejectedState();
+        setState(new RejectedState());
     }
 
     public String getApplicantUsername() {
@@ -41,4 +60,28 @@ public class JobApplication {
     public Job getJob() {
         return job;
     }
+
+    void addStateListener(ApplicationStateListener listener) {
+        listeners.add(listener);
+    }
+
+    // Restores a persisted status without notifying listeners
+    void restoreStatus(String statusName) {
+        this.state = stateFor(statusName);
+    }
+
+    static ApplicationState stateFor(String statusName) {
+        switch (statusName) {
+            case "Applied":
+                return new AppliedState();
+            case "Reviewed":
+                return new ReviewedState();
+            case "Accepted":
+                return new AcceptedState();
+            case "Rejected":
+                return new RejectedState();
+            default:
+                throw new IllegalArgumentException("Unknown application status: " + statusName);
+        }
+    }
 }
@@ -0,0 +1,5 @@
+package com.jobsphere.core;
+
+public interface JobChangeListener {
+    void onJobChanged(Job job);
+}
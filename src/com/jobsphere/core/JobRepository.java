@@ -1,5 +1,6 @@
 package com.jobsphere.core;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface JobRepository {
@@ -11,5 +12,11 @@ public interface JobRepository {
 
     List<Job> findAll();
 
+    Page<Job> findAll(int offset, int limit);
+
+    List<Job> findActive();
+
+    List<Job> findActiveByIds(Collection<String> jobIds);
+
     List<Job> findByCompany(String companyUsername);
 }
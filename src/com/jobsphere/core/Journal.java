@@ -0,0 +1,279 @@
+package com.jobsphere.core;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only write-ahead log split into numbered segments. Records are
+ * framed as [length][crc32][payload]. A single writer thread drains every
+ * pending record into one write and one fsync (group commit).
+ *
+ * A failed write leaves the segment with a tail that replay would stop at,
+ * so anything written after it could never be recovered. The first failure
+ * is therefore latched: it fails every pending record and every later
+ * append is refused.
+ */
+public class Journal implements AutoCloseable {
+    private static final int MAX_BATCH = 4096;
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".log";
+
+    private final Path dir;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private FileChannel channel;
+    private volatile int segment;
+    private volatile IOException failure;
+    private boolean closed;
+
+    public Journal(Path dir, int segment) {
+        this.dir = dir;
+        this.segment = segment;
+        this.channel = openSegment(segment);
+        this.writer = new Thread(this::writeLoop, "journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public CompletableFuture<Void> append(byte[] payload) {
+        return enqueue(new Pending(Pending.RECORD, payload)).thenApply(segmentNumber -> null);
+    }
+
+    /**
+     * Closes the current segment and continues in the next one. Completes
+     * with the new segment number once every earlier record is durable.
+     */
+    public CompletableFuture<Integer> rotate() {
+        return enqueue(new Pending(Pending.ROTATE, null));
+    }
+
+    public int getSegment() {
+        return segment;
+    }
+
+    // The write error that stopped the journal, or null while it is healthy
+    public IOException getFailure() {
+        return failure;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        CompletableFuture<Integer> stopped = enqueue(new Pending(Pending.STOP, null));
+        closed = true;
+        stopped.join();
+    }
+
+    private synchronized CompletableFuture<Integer> enqueue(Pending pending) {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        if (failure != null && pending.kind != Pending.STOP) {
+            throw new UncheckedIOException("Journal stopped after a write failure", failure);
+        }
+        queue.add(pending);
+        return pending.done;
+    }
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>();
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                continue;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+            if (failure != null) {
+                running = fail(batch);
+                batch.clear();
+                continue;
+            }
+            List<Pending> written = new ArrayList<>();
+            try {
+                for (Pending pending : batch) {
+                    if (pending.kind == Pending.RECORD) {
+                        written.add(pending);
+                        continue;
+                    }
+                    flush(written);
+                    channel.force(false);
+                    complete(written);
+                    if (pending.kind == Pending.ROTATE) {
+                        channel.close();
+                        channel = openSegment(++segment);
+                    } else {
+                        channel.close();
+                        running = false;
+                    }
+                    pending.done.complete(segment);
+                }
+                if (running) {
+                    flush(written);
+                    channel.force(false);
+                    complete(written);
+                }
+            } catch (IOException | UncheckedIOException e) {
+                failure = e instanceof UncheckedIOException ? ((UncheckedIOException) e).getCause() : (IOException) e;
+                System.out.println("[Journal] Write failed, refusing further records: " + e.getMessage());
+                running = fail(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    // Fails everything not yet completed; returns false once a STOP is seen
+    private boolean fail(List<Pending> batch) {
+        boolean running = true;
+        for (Pending pending : batch) {
+            if (pending.done.isDone()) {
+                continue;
+            }
+            if (pending.kind == Pending.STOP) {
+                closeQuietly();
+                pending.done.complete(segment);
+                running = false;
+            } else {
+                pending.done.completeExceptionally(failure);
+            }
+        }
+        return running;
+    }
+
+    private void closeQuietly() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.out.println("[Journal] Close failed: " + e.getMessage());
+        }
+    }
+
+    private void flush(List<Pending> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        int size = 0;
+        for (Pending pending : records) {
+            size += 8 + pending.payload.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        CRC32 crc = new CRC32();
+        for (Pending pending : records) {
+            crc.reset();
+            crc.update(pending.payload);
+            buffer.putInt(pending.payload.length);
+            buffer.putInt((int) crc.getValue());
+            buffer.put(pending.payload);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void complete(List<Pending> records) {
+        for (Pending pending : records) {
+            pending.done.complete(segment);
+        }
+        records.clear();
+    }
+
+    private FileChannel openSegment(int number) {
+        try {
+            return FileChannel.open(segmentPath(dir, number),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Path segmentPath(Path dir, int number) {
+        return dir.resolve(PREFIX + number + SUFFIX);
+    }
+
+    public static List<Integer> listSegments(Path dir) throws IOException {
+        List<Integer> segments = new ArrayList<>();
+        if (!Files.isDirectory(dir)) {
+            return segments;
+        }
+        try (var files = Files.list(dir)) {
+            files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .forEach(name -> segments.add(Integer.parseInt(
+                            name.substring(PREFIX.length(), name.length() - SUFFIX.length()))));
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    /**
+     * Feeds every intact record of a segment to the consumer and returns the
+     * byte length of the intact prefix. A torn or corrupt tail ends the replay,
+     * including a length that runs past the end of the file.
+     */
+    public static long replay(Path file, Consumer<byte[]> consumer) throws IOException {
+        long size = Files.size(file);
+        long valid = 0;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            CRC32 crc = new CRC32();
+            while (true) {
+                byte[] payload;
+                int checksum;
+                try {
+                    int length = in.readInt();
+                    checksum = in.readInt();
+                    // Checked before allocating so a garbage length cannot exhaust the heap
+                    if (length < 0 || length > size - valid - 8) {
+                        break;
+                    }
+                    payload = new byte[length];
+                    in.readFully(payload);
+                } catch (EOFException e) {
+                    break;
+                }
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                consumer.accept(payload);
+                valid += 8 + payload.length;
+            }
+        }
+        return valid;
+    }
+
+    private static class Pending {
+        static final int RECORD = 0;
+        static final int ROTATE = 1;
+        static final int STOP = 2;
+
+        final int kind;
+        final byte[] payload;
+        final CompletableFuture<Integer> done = new CompletableFuture<>();
+
+        Pending(int kind, byte[] payload) {
+            this.kind = kind;
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.jobsphere.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class JournaledApplicationRepository implements ApplicationRepository {
+    private final ApplicationRepository delegate;
+    private final PersistenceEngine persistence;
+    // Orders each add together with its journal append; see JournaledJobRepository
+    private final Object writeLock = new Object();
+
+    public JournaledApplicationRepository(ApplicationRepository delegate, PersistenceEngine persistence) {
+        this.delegate = delegate;
+        this.persistence = persistence;
+    }
+
+    @Override
+    public void add(JobApplication application) {
+        CompletableFuture<Void> durable;
+        synchronized (writeLock) {
+            delegate.add(application);
+            durable = persistence.applicationAdded(application);
+        }
+        durable.join();
+    }
+
+    @Override
+    public JobApplication findById(String applicationId) {
+        return delegate.findById(applicationId);
+    }
+
+    @Override
+    public List<JobApplication> findByJobId(String jobId) {
+        return delegate.findByJobId(jobId);
+    }
+
+    @Override
+    public List<JobApplication> findByJobIds(Collection<String> jobIds) {
+        return delegate.findByJobIds(jobIds);
+    }
+
+    @Override
+    public Page<JobApplication> findByJobIds(Collection<String> jobIds, int offset, int limit) {
+        return delegate.findByJobIds(jobIds, offset, limit);
+    }
+
+    @Override
+    public List<JobApplication> findByUsername(String username) {
+        return delegate.findByUsername(username);
+    }
+
+    @Override
+    public JobApplication findByUsernameAndJobId(String username, String jobId) {
+        return delegate.findByUsernameAndJobId(username, jobId);
+    }
+
+    @Override
+    public List<JobApplication> findAll() {
+        return delegate.findAll();
+    }
+
+    // State changes are journaled by the state listener attached in
+    // applicationAdded, under the delegate's lock; only the fsync is awaited here
+    @Override
+    public JobApplication advance(String applicationId) {
+        JobApplication application = delegate.advance(applicationId);
+        persistence.awaitStateRecord();
+        return application;
+    }
+
+    @Override
+    public JobApplication reject(String applicationId) {
+        JobApplication application = delegate.reject(applicationId);
+        persistence.awaitStateRecord();
+        return application;
+    }
+}
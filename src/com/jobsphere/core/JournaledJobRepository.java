@@ -0,0 +1,72 @@
+package com.jobsphere.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class JournaledJobRepository implements JobRepository {
+    private final JobRepository delegate;
+    private final PersistenceEngine persistence;
+    // Orders each mutation together with its journal append, so the journal
+    // sees changes in the same order as memory; the fsync is awaited outside
+    private final Object writeLock = new Object();
+
+    public JournaledJobRepository(JobRepository delegate, PersistenceEngine persistence) {
+        this.delegate = delegate;
+        this.persistence = persistence;
+    }
+
+    @Override
+    public void add(Job job) {
+        CompletableFuture<Void> durable;
+        synchronized (writeLock) {
+            delegate.add(job);
+            durable = persistence.jobAdded(job);
+        }
+        durable.join();
+    }
+
+    @Override
+    public void remove(String jobId) {
+        CompletableFuture<Void> durable;
+        synchronized (writeLock) {
+            Job job = delegate.findById(jobId);
+            delegate.remove(jobId);
+            if (job == null) {
+                return;
+            }
+            durable = persistence.jobRemoved(job);
+        }
+        durable.join();
+    }
+
+    @Override
+    public Job findById(String jobId) {
+        return delegate.findById(jobId);
+    }
+
+    @Override
+    public List<Job> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Page<Job> findAll(int offset, int limit) {
+        return delegate.findAll(offset, limit);
+    }
+
+    @Override
+    public List<Job> findActive() {
+        return delegate.findActive();
+    }
+
+    @Override
+    public List<Job> findActiveByIds(Collection<String> jobIds) {
+        return delegate.findActiveByIds(jobIds);
+    }
+
+    @Override
+    public List<Job> findByCompany(String companyUsername) {
+        return delegate.findByCompany(companyUsername);
+    }
+}
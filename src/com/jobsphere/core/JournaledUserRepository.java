@@ -0,0 +1,51 @@
+package com.jobsphere.core;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class JournaledUserRepository implements UserRepository {
+    private final UserRepository delegate;
+    private final PersistenceEngine persistence;
+    // Orders each mutation together with its journal append; see JournaledJobRepository
+    private final Object writeLock = new Object();
+
+    public JournaledUserRepository(UserRepository delegate, PersistenceEngine persistence) {
+        this.delegate = delegate;
+        this.persistence = persistence;
+    }
+
+    @Override
+    public void add(User user) {
+        CompletableFuture<Void> durable;
+        synchronized (writeLock) {
+            delegate.add(user);
+            durable = persistence.userAdded(user);
+        }
+        durable.join();
+    }
+
+    @Override
+    public void update(User user) {
+        CompletableFuture<Void> durable;
+        synchronized (writeLock) {
+            delegate.update(user);
+            durable = persistence.userUpdated(user);
+        }
+        durable.join();
+    }
+
+    @Override
+    public User findByUsername(String username) {
+        return delegate.findByUsername(username);
+    }
+
+    @Override
+    public List<User> findByRole(String role) {
+        return delegate.findByRole(role);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+}
@@ -0,0 +1,13 @@
+package com.jobsphere.core;
+
+/**
+ * Thrown when a username or source has used up its login attempts, as
+ * opposed to other SecurityExceptions such as a saturated login service.
+ */
+public class LoginBlockedException extends SecurityException {
+    private static final long serialVersionUID = 1L;
+
+    public LoginBlockedException(String message) {
+        super(message);
+    }
+}
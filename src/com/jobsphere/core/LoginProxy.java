@@ -1,35 +1,73 @@
 package com.jobsphere.core;
 
-
+import java.time.Duration;
 
 public class LoginProxy implements LoginService {
 
+    private static final String LOCAL_SOURCE = "local";
+    private static final int MAX_ATTEMPTS_PER_USER = 3;
+    private static final int MAX_ATTEMPTS_PER_SOURCE = 20;
+    private static final Duration LOCKOUT_WINDOW = Duration.ofMinutes(15);
+    private static final int SWEEP_ABOVE_KEYS = 100_000;
+
     private final LoginService realLoginService;
-    private int attempts = 0;
-    private static final int MAX_ATTEMPTS = 3;
+    private final LoginRateLimiter userLimiter;
+    private final LoginRateLimiter sourceLimiter;
 
     public LoginProxy(LoginService realLoginService) {
+        this(realLoginService,
+                new LoginRateLimiter(MAX_ATTEMPTS_PER_USER, LOCKOUT_WINDOW, SWEEP_ABOVE_KEYS),
+                new LoginRateLimiter(MAX_ATTEMPTS_PER_SOURCE, LOCKOUT_WINDOW, SWEEP_ABOVE_KEYS));
+    }
+
+    public LoginProxy(LoginService realLoginService, LoginRateLimiter userLimiter, LoginRateLimiter sourceLimiter) {
         this.realLoginService = realLoginService;
+        this.userLimiter = userLimiter;
+        this.sourceLimiter = sourceLimiter;
     }
 
     @Override
     public User login(String username, String password) {
+        return login(username, password, LOCAL_SOURCE);
+    }
 
-        if (attempts >= MAX_ATTEMPTS) {
-            throw new SecurityException("Too many login attempts");
+    @Override
+    public User login(String username, String password, String source) {
+
+        // Every desktop login shares the local source, so limiting it would lock
+        // out all users at once; those attempts are limited per username only
+        boolean limitSource = source != null && !LOCAL_SOURCE.equals(source);
+        // Each attempt is reserved before the slow password check, so parallel
+        // attempts cannot all pass the limit before any failure is counted
+        if (!userLimiter.tryAcquire(username)) {
+            throw new LoginBlockedException("Too many login attempts");
+        }
+        if (limitSource && !sourceLimiter.tryAcquire(source)) {
+            userLimiter.release(username);
+            throw new LoginBlockedException("Too many login attempts");
         }
 
-        User user = realLoginService.login(username, password);
+        User user;
+        try {
+            user = realLoginService.login(username, password, source);
+        } catch (RuntimeException e) {
+            // The password was never checked, so the attempt does not count
+            userLimiter.release(username);
+            if (limitSource) {
+                sourceLimiter.release(source);
+            }
+            throw e;
+        }
 
         if (user == null) {
-            attempts++;
-            System.out.println("[Proxy] Failed login attempt " + attempts);
+            System.out.println("[Proxy] Failed login attempt for " + username + " from " + source);
         } else {
-            attempts = 0; // reset on success
+            userLimiter.reset(username); // reset on success
+            if (limitSource) {
+                sourceLimiter.release(source);
+            }
         }
 
         return user;
     }
 }
-
-
@@ -0,0 +1,147 @@
+package com.jobsphere.core;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts attempts per key over a sliding window and refuses a key once it
+ * reaches the limit. Each key is a single AtomicLong updated by CAS, so
+ * checks and updates never lock. The window is approximated from two fixed
+ * buckets: the previous bucket's count weighted by how much of it still
+ * overlaps the window, plus the current bucket's count. Keys unlock on their
+ * own as old attempts age out, and idle keys are swept from the map.
+ */
+public class LoginRateLimiter {
+    private static final int MAX_COUNT = 0xFFFF;
+    private static final int SWEEP_EVERY = 1024;
+
+    private final int maxFailures;
+    private final long windowNanos;
+    private final int sweepAbove;
+    private final long origin = System.nanoTime();
+    // Packed state: bucket index (32 bits) | previous count (16) | current count (16)
+    private final Map<String, AtomicLong> windows = new ConcurrentHashMap<>();
+    private final AtomicInteger updatesSinceSweep = new AtomicInteger();
+    private final AtomicLong lastSweep = new AtomicLong(origin);
+
+    /**
+     * @param sweepAbove map size beyond which idle keys are swept eagerly
+     *                   rather than every {@value #SWEEP_EVERY} attempts
+     */
+    public LoginRateLimiter(int maxFailures, Duration window, int sweepAbove) {
+        if (maxFailures <= 0 || maxFailures > MAX_COUNT) {
+            throw new IllegalArgumentException("maxFailures must be between 1 and " + MAX_COUNT);
+        }
+        this.maxFailures = maxFailures;
+        this.windowNanos = window.toNanos();
+        this.sweepAbove = sweepAbove;
+    }
+
+    public boolean isBlocked(String key) {
+        AtomicLong window = windows.get(key);
+        return window != null && estimate(window.get(), System.nanoTime()) >= maxFailures;
+    }
+
+    /**
+     * Reserves one attempt for the key, or returns false if the key has
+     * already reached the limit. The check and the increment are a single
+     * CAS, so concurrent callers cannot all slip in under the limit.
+     */
+    public boolean tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong window = windows.computeIfAbsent(key, k -> new AtomicLong(pack(bucket(now), 0, 0)));
+        long current;
+        long next;
+        do {
+            current = window.get();
+            if (estimate(current, now) >= maxFailures) {
+                return false;
+            }
+            long rolled = roll(current, bucket(now));
+            int count = (int) (rolled & MAX_COUNT);
+            next = count == MAX_COUNT ? rolled : rolled + 1;
+        } while (!window.compareAndSet(current, next));
+        if (updatesSinceSweep.incrementAndGet() >= SWEEP_EVERY || windows.size() > sweepAbove) {
+            sweep(now);
+        }
+        return true;
+    }
+
+    /**
+     * Gives back an attempt reserved by tryAcquire that should not count,
+     * e.g. one that never reached the password check.
+     */
+    public void release(String key) {
+        AtomicLong window = windows.get(key);
+        if (window == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long current;
+        long next;
+        do {
+            current = window.get();
+            long rolled = roll(current, bucket(now));
+            if ((rolled & MAX_COUNT) > 0) {
+                next = rolled - 1;
+            } else if (((rolled >>> 16) & MAX_COUNT) > 0) {
+                // The reservation rolled into the previous bucket
+                next = rolled - (1L << 16);
+            } else {
+                return;
+            }
+        } while (!window.compareAndSet(current, next));
+    }
+
+    public void reset(String key) {
+        windows.remove(key);
+    }
+
+    public int size() {
+        return windows.size();
+    }
+
+    // Drops keys whose attempts have all aged out of the window. One thread
+    // sweeps at a time, at most once per tenth of a window, so a large live
+    // map does not turn every attempt into a full scan.
+    private void sweep(long now) {
+        long last = lastSweep.get();
+        if (now - last < windowNanos / 10 || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        updatesSinceSweep.set(0);
+        long bucket = bucket(now);
+        windows.values().removeIf(window -> (window.get() >>> 32) < bucket - 1);
+    }
+
+    private int estimate(long state, long now) {
+        long bucket = bucket(now);
+        long rolled = roll(state, bucket);
+        int previous = (int) ((rolled >>> 16) & MAX_COUNT);
+        int current = (int) (rolled & MAX_COUNT);
+        long elapsed = (now - origin) - bucket * windowNanos;
+        double overlap = 1.0 - (double) elapsed / windowNanos;
+        return (int) Math.ceil(previous * overlap) + current;
+    }
+
+    // Shifts the state forward so that its current bucket is `bucket`
+    private static long roll(long state, long bucket) {
+        long stateBucket = state >>> 32;
+        if (stateBucket == bucket) {
+            return state;
+        }
+        int current = (int) (state & MAX_COUNT);
+        return pack(bucket, stateBucket == bucket - 1 ? current : 0, 0);
+    }
+
+    private long bucket(long now) {
+        return (now - origin) / windowNanos;
+    }
+
+    private static long pack(long bucket, int previous, int current) {
+        return (bucket << 32) | ((long) previous << 16) | current;
+    }
+}
@@ -3,4 +3,9 @@ package com.jobsphere.core;
 
 public interface LoginService {
     User login(String username, String password);
+
+    // source identifies the client (e.g. a remote address) for rate limiting
+    default User login(String username, String password, String source) {
+        return login(username, password);
+    }
 }
@@ -0,0 +1,25 @@
+package com.jobsphere.core;
+
+public class Match {
+    private final String id;
+    private final float score;
+
+    public Match(String id, float score) {
+        this.id = id;
+        this.score = score;
+    }
+
+    // Job id or applicant username, depending on the query
+    public String getId() {
+        return id;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return id + " (" + Math.round(score * 100) + "%)";
+    }
+}
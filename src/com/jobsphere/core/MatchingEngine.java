@@ -0,0 +1,631 @@
+package com.jobsphere.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Matches job requirements against applicant resumes using cosine
+ * similarity of TF-IDF vectors. Vectors and posting lists are primitive
+ * int/float arrays. A query only touches the postings of its own terms and
+ * keeps the best K in a bounded min-heap.
+ *
+ * Each document remembers its position in every posting list it is on, so
+ * removing it from one is a swap with the list's last entry. Single updates
+ * adjust only the cached top-K lists of documents that share a term with
+ * the changed one. IDF weights are fixed when a document is updated, and
+ * rebuild() re-weighs the whole corpus.
+ * matchAllJobs() and matchAllApplicants() score in batch on a fork-join pool.
+ */
+public class MatchingEngine {
+    private static final int BATCH_SLICE = 256;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ForkJoinPool pool;
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private int[] documentFrequency = new int[1024];
+    private int documentCount;
+    private final Side jobs = new Side();
+    private final Side applicants = new Side();
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    public MatchingEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public MatchingEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public void updateJob(String jobId, String text) {
+        update(jobs, applicants, jobId, text);
+    }
+
+    public void removeJob(String jobId) {
+        remove(jobs, applicants, jobId);
+    }
+
+    public void updateApplicant(String username, String text) {
+        update(applicants, jobs, username, text);
+    }
+
+    public void removeApplicant(String username) {
+        remove(applicants, jobs, username);
+    }
+
+    public List<Match> topCandidates(String jobId, int k) {
+        return top(jobs, applicants, jobId, k);
+    }
+
+    public List<Match> topJobs(String username, int k) {
+        return top(applicants, jobs, username, k);
+    }
+
+    public Map<String, List<Match>> matchAllJobs(int k) {
+        return matchAll(jobs, applicants, k);
+    }
+
+    public Map<String, List<Match>> matchAllApplicants(int k) {
+        return matchAll(applicants, jobs, k);
+    }
+
+    /**
+     * Re-weighs every document with the current IDF values and drops all
+     * cached results.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            for (Side side : new Side[] { jobs, applicants }) {
+                side.postings.clear();
+                side.cache.clear();
+                for (int slot = 0; slot < side.counts.size(); slot++) {
+                    TermCounts counts = side.counts.get(slot);
+                    side.vectors.set(slot, counts == null ? null : weigh(counts));
+                    if (counts != null) {
+                        side.addPostings(slot, side.vectors.get(slot));
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void update(Side side, Side other, String id, String text) {
+        lock.writeLock().lock();
+        try {
+            TermCounts counts = count(text);
+            Integer slot = side.slots.get(id);
+            Vector old = null;
+            if (slot == null) {
+                slot = side.addSlot(id);
+            } else {
+                old = side.vectors.get(slot);
+                forget(side, slot);
+            }
+            for (int term : counts.terms) {
+                documentFrequency[term]++;
+            }
+            documentCount++;
+            Vector vector = weigh(counts);
+            side.counts.set(slot, counts);
+            side.vectors.set(slot, vector);
+            side.addPostings(slot, vector);
+            side.cache.remove(id);
+            propagate(id, slot, old, vector, other);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Side side, Side other, String id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = side.slots.get(id);
+            if (slot == null || side.counts.get(slot) == null) {
+                return;
+            }
+            Vector old = side.vectors.get(slot);
+            forget(side, slot);
+            side.cache.remove(id);
+            propagate(id, slot, old, null, other);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void forget(Side side, int slot) {
+        TermCounts old = side.counts.get(slot);
+        if (old == null) {
+            return;
+        }
+        for (int term : old.terms) {
+            documentFrequency[term]--;
+        }
+        documentCount--;
+        side.removePostings(slot, side.vectors.get(slot));
+        side.counts.set(slot, null);
+        side.vectors.set(slot, null);
+    }
+
+    // Adjusts the other side's cached top-K lists for one changed document.
+    // Only documents sharing a term with its new vector can have gained it,
+    // and only those sharing one with its old vector can have held it, so
+    // the walk covers the changed document's own posting lists.
+    private void propagate(String id, int slot, Vector old, Vector vector, Side other) {
+        if (other.cache.isEmpty()) {
+            return;
+        }
+        Scratch s = scratch.get();
+        s.ensure(other.ids.size());
+        int touched = vector == null ? 0 : accumulate(vector, other, s);
+        for (int i = 0; i < touched; i++) {
+            int doc = s.touched[i];
+            adjust(other, other.ids.get(doc), id, slot, s.scores[doc]);
+        }
+        if (old != null) {
+            // Untouched by the new vector means the document now scores zero
+            for (int term : old.terms) {
+                PostingList list = other.postings(term);
+                for (int j = 0; list != null && j < list.size; j++) {
+                    int doc = list.docs[j];
+                    if (s.scores[doc] == 0f) {
+                        adjust(other, other.ids.get(doc), id, slot, 0f);
+                    }
+                }
+            }
+        }
+        s.reset(touched);
+    }
+
+    // A full list whose member drops below the old cut-off may now be missing
+    // an outsider, so it is dropped and recomputed on the next read
+    private void adjust(Side side, String owner, String id, int slot, float score) {
+        CachedTop cached = side.cache.get(owner);
+        if (cached == null) {
+            return;
+        }
+        int member = -1;
+        for (int i = 0; i < cached.docs.length; i++) {
+            if (cached.docs[i] == slot) {
+                member = i;
+                break;
+            }
+        }
+        boolean full = !cached.matches.isEmpty() && cached.matches.size() >= cached.k;
+        float cutoff = full ? cached.matches.get(cached.matches.size() - 1).getScore() : 0f;
+        if (member >= 0 && full && score < cutoff) {
+            side.cache.remove(owner);
+            return;
+        }
+        boolean insert = score > 0 && (member >= 0 || !full || score > cutoff);
+        if (member < 0 && !insert) {
+            return;
+        }
+        List<Match> matches = new ArrayList<>(cached.matches);
+        int[] docs = cached.docs;
+        if (member >= 0) {
+            matches.remove(member);
+            docs = remove(docs, member);
+        }
+        if (insert) {
+            // After any equal scores, as a stable sort of the appended match would place it
+            int at = 0;
+            while (at < matches.size() && matches.get(at).getScore() >= score) {
+                at++;
+            }
+            matches.add(at, new Match(id, score));
+            docs = insert(docs, at, slot);
+            if (matches.size() > cached.k) {
+                matches.remove(matches.size() - 1);
+                docs = Arrays.copyOf(docs, cached.k);
+            }
+        }
+        side.cache.put(owner, new CachedTop(cached.k, matches, docs));
+    }
+
+    private static int[] remove(int[] values, int index) {
+        int[] result = new int[values.length - 1];
+        System.arraycopy(values, 0, result, 0, index);
+        System.arraycopy(values, index + 1, result, index, result.length - index);
+        return result;
+    }
+
+    private static int[] insert(int[] values, int index, int value) {
+        int[] result = new int[values.length + 1];
+        System.arraycopy(values, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(values, index, result, index + 1, values.length - index);
+        return result;
+    }
+
+    private List<Match> top(Side side, Side other, String id, int k) {
+        CachedTop cached = side.cache.get(id);
+        if (cached != null && cached.k >= k) {
+            return new ArrayList<>(cached.matches.subList(0, Math.min(k, cached.matches.size())));
+        }
+        lock.readLock().lock();
+        try {
+            Integer slot = side.slots.get(id);
+            if (slot == null || side.vectors.get(slot) == null) {
+                return new ArrayList<>();
+            }
+            List<Match> matches = score(side.vectors.get(slot), other, k);
+            side.cache.put(id, new CachedTop(k, matches, other.slotsOf(matches)));
+            return new ArrayList<>(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<String, List<Match>> matchAll(Side side, Side other, int k) {
+        lock.readLock().lock();
+        try {
+            Map<String, List<Match>> results = new ConcurrentHashMap<>();
+            pool.invoke(new BatchTask(side, other, k, 0, side.ids.size(), results));
+            for (Map.Entry<String, List<Match>> e : results.entrySet()) {
+                side.cache.put(e.getKey(), new CachedTop(k, e.getValue(), other.slotsOf(e.getValue())));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Match> score(Vector query, Side target, int k) {
+        Scratch s = scratch.get();
+        int touched = accumulate(query, target, s);
+        TopK heap = new TopK(k);
+        for (int i = 0; i < touched; i++) {
+            int doc = s.touched[i];
+            heap.offer(doc, s.scores[doc]);
+        }
+        s.reset(touched);
+        return heap.toMatches(target.ids);
+    }
+
+    // Sums query x document weights over the query's posting lists only;
+    // returns how many target slots were touched
+    private int accumulate(Vector query, Side target, Scratch s) {
+        s.ensure(target.ids.size());
+        int touched = 0;
+        for (int i = 0; i < query.terms.length; i++) {
+            PostingList list = target.postings(query.terms[i]);
+            if (list == null) {
+                continue;
+            }
+            float w = query.weights[i];
+            for (int j = 0; j < list.size; j++) {
+                int doc = list.docs[j];
+                if (s.scores[doc] == 0f) {
+                    s.touched[touched++] = doc;
+                }
+                s.scores[doc] += w * list.weights[j];
+            }
+        }
+        return touched;
+    }
+
+    private TermCounts count(String text) {
+        List<String> tokens = Tokenizer.tokenize(text);
+        int[] ids = new int[tokens.size()];
+        int n = 0;
+        for (String token : tokens) {
+            if (token.length() < 2 || Tokenizer.isStopWord(token)) {
+                continue;
+            }
+            Integer term = termIds.get(token);
+            if (term == null) {
+                term = termIds.size();
+                termIds.put(token, term);
+                if (term >= documentFrequency.length) {
+                    documentFrequency = Arrays.copyOf(documentFrequency, documentFrequency.length * 2);
+                }
+            }
+            ids[n++] = term;
+        }
+        Arrays.sort(ids, 0, n);
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                distinct++;
+            }
+        }
+        int[] terms = new int[distinct];
+        int[] frequencies = new int[distinct];
+        int d = -1;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                terms[++d] = ids[i];
+            }
+            frequencies[d]++;
+        }
+        return new TermCounts(terms, frequencies);
+    }
+
+    private Vector weigh(TermCounts counts) {
+        float[] weights = new float[counts.terms.length];
+        double norm = 0;
+        for (int i = 0; i < weights.length; i++) {
+            double idf = Math.log((documentCount + 1.0) / (documentFrequency[counts.terms[i]] + 1.0)) + 1;
+            weights[i] = (float) ((1 + Math.log(counts.frequencies[i])) * idf);
+            norm += weights[i] * weights[i];
+        }
+        if (norm > 0) {
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] *= scale;
+            }
+        }
+        return new Vector(counts.terms, weights);
+    }
+
+    private class BatchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Side side;
+        private final Side other;
+        private final int k;
+        private final int from;
+        private final int to;
+        private final Map<String, List<Match>> results;
+
+        BatchTask(Side side, Side other, int k, int from, int to, Map<String, List<Match>> results) {
+            this.side = side;
+            this.other = other;
+            this.k = k;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BATCH_SLICE) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new BatchTask(side, other, k, from, mid, results),
+                        new BatchTask(side, other, k, mid, to, results));
+                return;
+            }
+            for (int slot = from; slot < to; slot++) {
+                Vector vector = side.vectors.get(slot);
+                if (vector != null) {
+                    results.put(side.ids.get(slot), score(vector, other, k));
+                }
+            }
+        }
+    }
+
+    private static class Side {
+        final Map<String, Integer> slots = new HashMap<>();
+        final List<String> ids = new ArrayList<>();
+        final List<TermCounts> counts = new ArrayList<>();
+        final List<Vector> vectors = new ArrayList<>();
+        // Per slot, the document's index in the posting list of each of its terms
+        final List<int[]> positions = new ArrayList<>();
+        // Indexed by term id; null where no document has the term
+        final List<PostingList> postings = new ArrayList<>();
+        final Map<String, CachedTop> cache = new ConcurrentHashMap<>();
+
+        int addSlot(String id) {
+            int slot = ids.size();
+            slots.put(id, slot);
+            ids.add(id);
+            counts.add(null);
+            vectors.add(null);
+            positions.add(null);
+            return slot;
+        }
+
+        int[] slotsOf(List<Match> matches) {
+            int[] result = new int[matches.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = slots.get(matches.get(i).getId());
+            }
+            return result;
+        }
+
+        PostingList postings(int term) {
+            return term < postings.size() ? postings.get(term) : null;
+        }
+
+        void addPostings(int slot, Vector vector) {
+            int[] at = new int[vector.terms.length];
+            for (int i = 0; i < vector.terms.length; i++) {
+                int term = vector.terms[i];
+                while (postings.size() <= term) {
+                    postings.add(null);
+                }
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    list = new PostingList();
+                    postings.set(term, list);
+                }
+                at[i] = list.add(slot, vector.weights[i], i);
+            }
+            positions.set(slot, at);
+        }
+
+        void removePostings(int slot, Vector vector) {
+            int[] at = positions.get(slot);
+            for (int i = 0; i < vector.terms.length; i++) {
+                PostingList list = postings(vector.terms[i]);
+                int moved = list.remove(at[i]);
+                if (moved >= 0) {
+                    positions.get(list.docs[moved])[list.termIndexes[moved]] = moved;
+                }
+                if (list.size == 0) {
+                    postings.set(vector.terms[i], null);
+                }
+            }
+            positions.set(slot, null);
+        }
+    }
+
+    private static class TermCounts {
+        final int[] terms;
+        final int[] frequencies;
+
+        TermCounts(int[] terms, int[] frequencies) {
+            this.terms = terms;
+            this.frequencies = frequencies;
+        }
+    }
+
+    private static class Vector {
+        final int[] terms;
+        final float[] weights;
+
+        Vector(int[] terms, float[] weights) {
+            this.terms = terms;
+            this.weights = weights;
+        }
+    }
+
+    private static class PostingList {
+        int[] docs = new int[4];
+        float[] weights = new float[4];
+        // Index of this list's term within each document's vector
+        int[] termIndexes = new int[4];
+        int size;
+
+        // Returns the new entry's position
+        int add(int doc, float weight, int termIndex) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+                termIndexes = Arrays.copyOf(termIndexes, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            termIndexes[size] = termIndex;
+            return size++;
+        }
+
+        // Moves the last entry into the gap; returns the position it moved
+        // to, or -1 when the removed entry was the last one
+        int remove(int position) {
+            size--;
+            if (position == size) {
+                return -1;
+            }
+            docs[position] = docs[size];
+            weights[position] = weights[size];
+            termIndexes[position] = termIndexes[size];
+            return position;
+        }
+    }
+
+    private static class CachedTop {
+        final int k;
+        final List<Match> matches;
+        // Slot of each match on the scored side, for membership checks
+        final int[] docs;
+
+        CachedTop(int k, List<Match> matches, int[] docs) {
+            this.k = k;
+            this.matches = matches;
+            this.docs = docs;
+        }
+    }
+
+    // Per-thread score accumulator; only touched slots are read and reset
+    private static class Scratch {
+        float[] scores = new float[0];
+        int[] touched = new int[0];
+
+        void ensure(int size) {
+            if (scores.length < size) {
+                scores = Arrays.copyOf(scores, size);
+                touched = new int[size];
+            }
+        }
+
+        void reset(int count) {
+            for (int i = 0; i < count; i++) {
+                scores[touched[i]] = 0f;
+            }
+        }
+    }
+
+    // Bounded min-heap keeping the k highest scores
+    private static class TopK {
+        private final int[] docs;
+        private final float[] scores;
+        private int size;
+
+        TopK(int k) {
+            docs = new int[k];
+            scores = new float[k];
+        }
+
+        void offer(int doc, float score) {
+            if (docs.length == 0) {
+                return;
+            }
+            if (size < docs.length) {
+                docs[size] = doc;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                docs[0] = doc;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        List<Match> toMatches(List<String> ids) {
+            Match[] sorted = new Match[size];
+            while (size > 0) {
+                sorted[size - 1] = new Match(ids.get(docs[0]), scores[0]);
+                size--;
+                docs[0] = docs[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            return new ArrayList<>(Arrays.asList(sorted));
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (scores[parent] <= scores[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && scores[left] < scores[smallest]) smallest = left;
+                if (right < size && scores[right] < scores[smallest]) smallest = right;
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int d = docs[a];
+            docs[a] = docs[b];
+            docs[b] = d;
+            float s = scores[a];
+            scores[a] = scores[b];
+            scores[b] = s;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.jobsphere.core;
+
+import java.util.List;
+
+public class Page<T> {
+    private final List<T> items;
+    private final int offset;
+    private final int total;
+
+    public Page(List<T> items, int offset, int total) {
+        this.items = items;
+        this.offset = offset;
+        this.total = total;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public boolean hasNext() {
+        return offset + items.size() < total;
+    }
+}
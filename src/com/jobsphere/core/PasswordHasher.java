@@ -0,0 +1,209 @@
+package com.jobsphere.core;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PBKDF2 password hashing, encoded as {@code pbkdf2$<iterations>$<salt>$<hash>}
+ * so the cost travels with each hash and can be raised later. The slow work
+ * runs on a small bounded pool: a login burst queues there (or is turned
+ * away when the queue is full) instead of occupying every caller thread.
+ *
+ * Stored values without the prefix are legacy plaintext passwords; they
+ * verify by constant-time comparison and always report needsRehash.
+ */
+public class PasswordHasher {
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2$";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+    private static final int DEFAULT_CACHE_SIZE = 4096;
+    private static final String FINGERPRINT_ALGORITHM = "HmacSHA256";
+    private static final long CACHE_TTL_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final int iterations;
+    private final int cacheSize;
+    private final ThreadPoolExecutor pool;
+    private final SecureRandom random = new SecureRandom();
+    // Random per process and never stored, so cached fingerprints cannot be
+    // brute-forced offline the way a bare fast hash could
+    private final SecretKeySpec fingerprintKey;
+    // Stored hash -> HMAC-SHA256 of the password that last verified against it.
+    // Lets a repeat login skip PBKDF2 for a few minutes; keyed by the stored
+    // hash, so a password change or rehash invalidates the entry.
+    private final Map<String, CachedVerification> verified = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedVerification> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    public PasswordHasher(int iterations, int threads, int queueCapacity) {
+        this(iterations, threads, queueCapacity, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param cacheSize number of recent verifications remembered; 0 makes
+     *                  every verification run the full derivation
+     */
+    public PasswordHasher(int iterations, int threads, int queueCapacity, int cacheSize) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("iterations must be positive");
+        }
+        this.iterations = iterations;
+        this.cacheSize = cacheSize;
+        byte[] secret = new byte[32];
+        random.nextBytes(secret);
+        this.fingerprintKey = new SecretKeySpec(secret, FINGERPRINT_ALGORITHM);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "password-hasher-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Hashes with the configured cost on the hashing pool. Throws
+     * RejectedExecutionException if the pool's queue is full.
+     */
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        byte[] key = await(pool.submit(() -> derive(password, salt, iterations, KEY_BITS)));
+        Base64.Encoder b64 = Base64.getEncoder().withoutPadding();
+        return PREFIX + iterations + "$" + b64.encodeToString(salt) + "$" + b64.encodeToString(key);
+    }
+
+    /**
+     * Checks a password against a stored value on the hashing pool. Throws
+     * RejectedExecutionException if the pool's queue is full.
+     */
+    public boolean verify(String password, String stored) {
+        if (stored == null || password == null) {
+            return false;
+        }
+        if (!stored.startsWith(PREFIX)) {
+            return MessageDigest.isEqual(utf8(password), utf8(stored));
+        }
+        byte[] fingerprint = fingerprint(password);
+        if (isCached(stored, fingerprint)) {
+            return true;
+        }
+        boolean matches = await(pool.submit(() -> matches(password, stored)));
+        if (matches && cacheSize > 0) {
+            synchronized (verified) {
+                verified.put(stored, new CachedVerification(fingerprint, System.nanoTime() + CACHE_TTL_NANOS));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * True if the stored value is plaintext or was hashed at a different cost.
+     */
+    public boolean needsRehash(String stored) {
+        if (stored == null || !stored.startsWith(PREFIX)) {
+            return true;
+        }
+        String[] parts = stored.split("\\$");
+        return parts.length != 4 || !parts[1].equals(String.valueOf(iterations));
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private boolean isCached(String stored, byte[] fingerprint) {
+        synchronized (verified) {
+            CachedVerification entry = verified.get(stored);
+            if (entry == null) {
+                return false;
+            }
+            if (System.nanoTime() - entry.expiresAt > 0) {
+                verified.remove(stored);
+                return false;
+            }
+            return MessageDigest.isEqual(entry.fingerprint, fingerprint);
+        }
+    }
+
+    private static boolean matches(String password, String stored) {
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4) {
+            return false;
+        }
+        Base64.Decoder b64 = Base64.getDecoder();
+        byte[] expected = b64.decode(parts[3]);
+        byte[] actual = derive(password, b64.decode(parts[2]), Integer.parseInt(parts[1]), expected.length * 8);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations, int keyBits) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, keyBits);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " not available", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        }
+    }
+
+    private byte[] fingerprint(String password) {
+        try {
+            Mac mac = Mac.getInstance(FINGERPRINT_ALGORITHM);
+            mac.init(fingerprintKey);
+            return mac.doFinal(utf8(password));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(FINGERPRINT_ALGORITHM + " not available", e);
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class CachedVerification {
+        final byte[] fingerprint;
+        final long expiresAt;
+
+        CachedVerification(byte[] fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,565 @@
+package com.jobsphere.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Durable storage for the in-memory repositories. Every change is appended
+ * to the Journal; after a number of records the journal is rotated and a
+ * compacted snapshot of the repositories is written in the background.
+ * Startup loads the newest snapshot and replays only the segments after it.
+ * Replay is idempotent, so records that a snapshot already reflects are
+ * harmless. Users and jobs are materialized from the snapshot at startup;
+ * applications stay in the mapped file until a lookup needs them.
+ *
+ * Each recording method returns a future that completes once the record is
+ * durable, or exceptionally if the write failed. After a failed write the
+ * journal refuses further records, so later changes throw immediately
+ * instead of being silently lost.
+ */
+public class PersistenceEngine implements JobChangeListener, ApplicationStateListener, AutoCloseable {
+    private static final int DEFAULT_SNAPSHOT_INTERVAL = 100_000;
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private static final byte USER_ADDED = 1;
+    private static final byte JOB_ADDED = 2;
+    private static final byte JOB_REMOVED = 3;
+    private static final byte JOB_UPDATED = 4;
+    private static final byte APPLICATION_ADDED = 5;
+    private static final byte APPLICATION_STATE = 6;
+    private static final byte USER_UPDATED = 7;
+    private static final byte SAVED_JOB_ADDED = 8;
+    private static final byte SAVED_JOB_REMOVED = 9;
+
+    private final Path dir;
+    private final UserRepository users;
+    private final JobRepository jobs;
+    private final InMemoryApplicationRepository applications;
+    private final int snapshotInterval;
+    private final AtomicLong recordsSinceSnapshot = new AtomicLong();
+    private final AtomicBoolean snapshotRunning = new AtomicBoolean();
+    private final ExecutorService snapshotExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "snapshot-writer");
+        t.setDaemon(true);
+        return t;
+    });
+    private Journal journal;
+    // Set once recovery has attached listeners to what replay materialized
+    private volatile boolean recovered;
+    // The state record most recently appended by this thread; the state
+    // listener fires under the repository's lock, so the caller awaits it after
+    private final ThreadLocal<CompletableFuture<Void>> pendingStateRecord = new ThreadLocal<>();
+
+    public PersistenceEngine(Path dir, UserRepository users, JobRepository jobs,
+                             InMemoryApplicationRepository applications) {
+        this(dir, users, jobs, applications, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    public PersistenceEngine(Path dir, UserRepository users, JobRepository jobs,
+                             InMemoryApplicationRepository applications, int snapshotInterval) {
+        this.dir = dir;
+        this.users = users;
+        this.jobs = jobs;
+        this.applications = applications;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Loads the latest snapshot and journal tail into the repositories, then
+     * opens the journal for new records. Must be called before any change is
+     * recorded.
+     */
+    public void recover() {
+        try {
+            Files.createDirectories(dir);
+            int snapshot = latestSnapshot();
+            if (snapshot >= 0) {
+                readSnapshot(snapshotPath(snapshot));
+            }
+            int segment = Math.max(snapshot, 0);
+            for (int number : Journal.listSegments(dir)) {
+                if (number < snapshot) {
+                    continue;
+                }
+                Path file = Journal.segmentPath(dir, number);
+                long valid = Journal.replay(file, this::apply);
+                if (valid < Files.size(file)) {
+                    // Drop a torn tail left by a crash mid-write
+                    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                        channel.truncate(valid);
+                    }
+                }
+                segment = Math.max(segment, number);
+            }
+            for (Job job : jobs.findAll()) {
+                job.addChangeListener(this);
+            }
+            // Applications loaded from the snapshot later are attached as they load
+            for (JobApplication application : applications.findLoaded()) {
+                application.addStateListener(this);
+            }
+            recovered = true;
+            journal = new Journal(dir, segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Change recording
+
+    public CompletableFuture<Void> userAdded(User user) {
+        return record(USER_ADDED, out -> writeUser(out, user));
+    }
+
+    public CompletableFuture<Void> userUpdated(User user) {
+        return record(USER_UPDATED, out -> writeUser(out, user));
+    }
+
+    public CompletableFuture<Void> jobAdded(Job job) {
+        job.addChangeListener(this);
+        return record(JOB_ADDED, out -> writeJob(out, job));
+    }
+
+    public CompletableFuture<Void> jobRemoved(Job job) {
+        job.removeChangeListener(this);
+        return record(JOB_REMOVED, out -> writeString(out, job.getId()));
+    }
+
+    // Runs on the thread that changed the job, which waits for the record
+    // like any other write
+    @Override
+    public void onJobChanged(Job job) {
+        record(JOB_UPDATED, out -> {
+            writeString(out, job.getId());
+            writeString(out, job.getTitle());
+            out.writeBoolean(job.isActive());
+        }).join();
+    }
+
+    public CompletableFuture<Void> applicationAdded(JobApplication application) {
+        application.addStateListener(this);
+        return record(APPLICATION_ADDED, out -> writeApplication(out, application));
+    }
+
+    public CompletableFuture<Void> savedJobAdded(Applicant applicant, String jobId) {
+        return record(SAVED_JOB_ADDED, out -> {
+            writeString(out, applicant.getUsername());
+            writeString(out, jobId);
+        });
+    }
+
+    public CompletableFuture<Void> savedJobRemoved(Applicant applicant, String jobId) {
+        return record(SAVED_JOB_REMOVED, out -> {
+            writeString(out, applicant.getUsername());
+            writeString(out, jobId);
+        });
+    }
+
+    // Fires under the application repository's lock, so the record is only
+    // appended here and awaited by awaitStateRecord() once the lock is released
+    @Override
+    public void onStateChanged(JobApplication application) {
+        CompletableFuture<Void> durable = record(APPLICATION_STATE, out -> {
+            writeString(out, application.getId());
+            writeString(out, application.getStatus());
+        });
+        durable.whenComplete((v, error) -> {
+            if (error != null) {
+                System.out.println("[Persistence] State change of " + application.getId() + " was not recorded: "
+                        + error.getMessage());
+            }
+        });
+        pendingStateRecord.set(durable);
+    }
+
+    /**
+     * Waits until the state change this thread last recorded is durable,
+     * throwing if it could not be written.
+     */
+    public void awaitStateRecord() {
+        CompletableFuture<Void> durable = pendingStateRecord.get();
+        if (durable != null) {
+            pendingStateRecord.remove();
+            durable.join();
+        }
+    }
+
+    /**
+     * Rotates the journal and writes a compacted snapshot of the current
+     * state, then deletes the segments and snapshots it supersedes.
+     */
+    public void snapshot() {
+        int segment = journal.rotate().join();
+        try {
+            Path target = snapshotPath(segment);
+            Path tmp = dir.resolve(target.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeSnapshot(channel);
+                channel.force(true);
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            for (int number : Journal.listSegments(dir)) {
+                if (number < segment) {
+                    deleteQuietly(Journal.segmentPath(dir, number));
+                }
+            }
+            for (int number : listSnapshots()) {
+                if (number < segment) {
+                    deleteQuietly(snapshotPath(number));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        snapshotExecutor.shutdown();
+        try {
+            snapshotExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private CompletableFuture<Void> record(byte type, RecordWriter body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try {
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(type);
+            body.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        CompletableFuture<Void> durable = journal.append(bytes.toByteArray());
+        if (recordsSinceSnapshot.incrementAndGet() >= snapshotInterval
+                && snapshotRunning.compareAndSet(false, true)) {
+            recordsSinceSnapshot.set(0);
+            snapshotExecutor.execute(() -> {
+                try {
+                    snapshot();
+                } catch (RuntimeException e) {
+                    System.out.println("[Persistence] Snapshot failed: " + e.getMessage());
+                } finally {
+                    snapshotRunning.set(false);
+                }
+            });
+        }
+        return durable;
+    }
+
+    private void apply(byte[] payload) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            byte type = in.readByte();
+            switch (type) {
+                case USER_ADDED: {
+                    User user = readUser(in);
+                    if (users.findByUsername(user.getUsername()) == null) {
+                        users.add(user);
+                    }
+                    break;
+                }
+                case USER_UPDATED: {
+                    User updated = readUser(in);
+                    User user = users.findByUsername(updated.getUsername());
+                    if (user != null) {
+                        user.setPassword(updated.getPassword());
+                        user.setEmail(updated.getEmail());
+                        if (user instanceof Applicant) {
+                            ((Applicant) user).setResumePath(((Applicant) updated).getResumePath());
+                        }
+                    }
+                    break;
+                }
+                case SAVED_JOB_ADDED: {
+                    User user = users.findByUsername(readString(in));
+                    String jobId = readString(in);
+                    if (user instanceof Applicant) {
+                        ((Applicant) user).saveJob(jobId);
+                    }
+                    break;
+                }
+                case SAVED_JOB_REMOVED: {
+                    User user = users.findByUsername(readString(in));
+                    String jobId = readString(in);
+                    if (user instanceof Applicant) {
+                        ((Applicant) user).removeSavedJob(jobId);
+                    }
+                    break;
+                }
+                case JOB_ADDED: {
+                    Job job = readJob(in);
+                    if (jobs.findById(job.getId()) == null) {
+                        jobs.add(job);
+                    }
+                    break;
+                }
+                case JOB_REMOVED:
+                    jobs.remove(readString(in));
+                    break;
+                case JOB_UPDATED: {
+                    Job job = jobs.findById(readString(in));
+                    String title = readString(in);
+                    boolean active = in.readBoolean();
+                    if (job != null) {
+                        job.setTitle(title);
+                        job.setActive(active);
+                    }
+                    break;
+                }
+                case APPLICATION_ADDED: {
+                    String id = readString(in);
+                    String username = readString(in);
+                    Job job = jobs.findById(readString(in));
+                    String resumePath = readString(in);
+                    String status = readString(in);
+                    if (job != null && applications.findById(id) == null) {
+                        JobApplication application = new JobApplication(id, username, job, resumePath);
+                        application.restoreStatus(status);
+                        applications.add(application);
+                    }
+                    break;
+                }
+                case APPLICATION_STATE: {
+                    JobApplication application = applications.findById(readString(in));
+                    String status = readString(in);
+                    if (application != null) {
+                        application.restoreStatus(status);
+                    }
+                    break;
+                }
+                default:
+                    throw new IOException("Unknown journal record type " + type);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeSnapshot(FileChannel channel) throws IOException {
+        List<Job> allJobs = jobs.findAll();
+        Set<String> capturedJobIds = new HashSet<>();
+        for (Job job : allJobs) {
+            capturedJobIds.add(job.getId());
+        }
+        List<JobApplication> allApplications = applications.copyAll();
+        // Judged against the captured list, not the live repository: a job
+        // added or removed since then still gets a record for its applications
+        Map<String, Job> orphanJobs = new LinkedHashMap<>();
+        for (JobApplication application : allApplications) {
+            Job job = application.getJob();
+            if (!capturedJobIds.contains(job.getId())) {
+                orphanJobs.putIfAbsent(job.getId(), job);
+            }
+        }
+        BinarySnapshot.write(channel, users.findAll(), allJobs, orphanJobs.values(), allApplications);
+    }
+
+    private void readSnapshot(Path file) throws IOException {
+        BinarySnapshot snapshot = BinarySnapshot.open(file);
+        for (int i = 0; i < snapshot.getUserCount(); i++) {
+            users.add(snapshot.user(i));
+        }
+        Job[] jobsByIndex = new Job[snapshot.getJobCount()];
+        for (int i = 0; i < jobsByIndex.length; i++) {
+            jobsByIndex[i] = snapshot.job(i);
+            if (!snapshot.isOrphanJob(i)) {
+                jobs.add(jobsByIndex[i]);
+            }
+        }
+        applications.setLoader(new SnapshotApplications(snapshot, jobsByIndex));
+    }
+
+    // Decodes applications from the mapped snapshot a job at a time
+    private class SnapshotApplications implements ApplicationLoader {
+        private final BinarySnapshot snapshot;
+        private final Job[] jobsByIndex;
+        private final Map<String, Integer> jobIndexes = new HashMap<>();
+
+        SnapshotApplications(BinarySnapshot snapshot, Job[] jobsByIndex) {
+            this.snapshot = snapshot;
+            this.jobsByIndex = jobsByIndex;
+            for (int i = 0; i < jobsByIndex.length; i++) {
+                if (snapshot.firstApplicationOf(i) < snapshot.firstApplicationOf(i + 1)) {
+                    jobIndexes.put(jobsByIndex[i].getId(), i);
+                }
+            }
+        }
+
+        @Override
+        public Set<String> jobIds() {
+            return jobIndexes.keySet();
+        }
+
+        @Override
+        public List<JobApplication> load(String jobId) {
+            List<JobApplication> result = new ArrayList<>();
+            Integer job = jobIndexes.get(jobId);
+            if (job != null) {
+                for (int i = snapshot.firstApplicationOf(job); i < snapshot.firstApplicationOf(job + 1); i++) {
+                    result.add(snapshot.application(i, jobsByIndex));
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void loaded(JobApplication application) {
+            if (recovered) {
+                application.addStateListener(PersistenceEngine.this);
+            }
+        }
+
+        @Override
+        public String jobIdOf(String applicationId) {
+            int index = snapshot.findApplication(applicationId);
+            return index < 0 ? null : jobsByIndex[snapshot.applicationJob(index)].getId();
+        }
+
+        @Override
+        public Set<String> jobIdsOf(String username) {
+            Set<String> jobIds = new HashSet<>();
+            for (int index : snapshot.findApplicationsBy(username)) {
+                jobIds.add(jobsByIndex[snapshot.applicationJob(index)].getId());
+            }
+            return jobIds;
+        }
+
+        @Override
+        public void forEachResume(String jobId, BiConsumer<String, String> action) {
+            Integer job = jobIndexes.get(jobId);
+            if (job != null) {
+                for (int i = snapshot.firstApplicationOf(job); i < snapshot.firstApplicationOf(job + 1); i++) {
+                    action.accept(snapshot.applicationUsername(i), snapshot.applicationResumePath(i));
+                }
+            }
+        }
+    }
+
+    private static void writeUser(DataOutputStream out, User user) throws IOException {
+        writeString(out, user.getRole());
+        writeString(out, user.getUsername());
+        writeString(out, user.getPassword());
+        writeString(out, user.getEmail());
+        writeString(out, user instanceof Applicant ? ((Applicant) user).getResumePath() : null);
+    }
+
+    private static User readUser(DataInputStream in) throws IOException {
+        String role = readString(in);
+        User user = UserFactory.createUser(role, readString(in), readString(in), readString(in));
+        String resumePath = readString(in);
+        if (user instanceof Applicant) {
+            ((Applicant) user).setResumePath(resumePath);
+        }
+        return user;
+    }
+
+    private static void writeJob(DataOutputStream out, Job job) throws IOException {
+        writeString(out, job.getId());
+        writeString(out, job.getTitle());
+        writeString(out, job.getDescription());
+        writeString(out, job.getCompanyUsername());
+        writeString(out, job.getRequirements());
+        out.writeBoolean(job.isActive());
+    }
+
+    private static Job readJob(DataInputStream in) throws IOException {
+        Job job = new Job(readString(in), readString(in), readString(in), readString(in), readString(in));
+        job.setActive(in.readBoolean());
+        return job;
+    }
+
+    private static void writeApplication(DataOutputStream out, JobApplication application) throws IOException {
+        writeString(out, application.getId());
+        writeString(out, application.getApplicantUsername());
+        writeString(out, application.getJob().getId());
+        writeString(out, application.getResumePath());
+        writeString(out, application.getStatus());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // A snapshot still mapped from startup cannot be deleted on some platforms;
+    // it is retried after the next snapshot.
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.out.println("[Persistence] Could not delete " + file + ": " + e.getMessage());
+        }
+    }
+
+    private int latestSnapshot() throws IOException {
+        List<Integer> snapshots = listSnapshots();
+        return snapshots.isEmpty() ? -1 : snapshots.get(snapshots.size() - 1);
+    }
+
+    private List<Integer> listSnapshots() throws IOException {
+        List<Integer> snapshots = new ArrayList<>();
+        try (var files = Files.list(dir)) {
+            files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX))
+                    .forEach(name -> snapshots.add(Integer.parseInt(
+                            name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()))));
+        }
+        snapshots.sort(null);
+        return snapshots;
+    }
+
+    private Path snapshotPath(int segment) {
+        return dir.resolve(SNAPSHOT_PREFIX + segment + SNAPSHOT_SUFFIX);
+    }
+
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,25 @@
+package com.jobsphere.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class PlainTextExtractor implements ResumeTextExtractor {
+    // Resumes are short; anything past this is not worth indexing
+    private static final int MAX_BYTES = 1024 * 1024;
+
+    @Override
+    public boolean supports(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        return name.endsWith(".txt") || name.endsWith(".md");
+    }
+
+    @Override
+    public String extract(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return new String(in.readNBytes(MAX_BYTES), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -1,21 +1,36 @@
 package com.jobsphere.core;
 
+import java.util.concurrent.RejectedExecutionException;
 
 public class RealLoginService implements LoginService {
 
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
 
-    public RealLoginService(UserRepository userRepository) {
+    public RealLoginService(UserRepository userRepository, PasswordHasher passwordHasher) {
         this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
     }
 
     @Override
     public User login(String username, String password) {
         User user = userRepository.findByUsername(username);
-        if (user != null && user.checkPassword(password)) {
-            return user;
+        if (user == null) {
+            return null;
         }
-        return null;
+        String stored = user.getPassword();
+        try {
+            if (!passwordHasher.verify(password, stored)) {
+                return null;
+            }
+            // Upgrade plaintext or old-cost hashes while the password is at hand
+            if (passwordHasher.needsRehash(stored)) {
+                user.setPassword(passwordHasher.hash(password));
+                userRepository.update(user);
+            }
+        } catch (RejectedExecutionException e) {
+            throw new SecurityException("Login service busy, please try again shortly", e);
+        }
+        return user;
     }
 }
-
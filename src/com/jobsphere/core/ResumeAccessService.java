@@ -0,0 +1,77 @@
+package com.jobsphere.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read access to stored resumes for local and remote reviewers. Ranges are
+ * streamed with FileChannel.transferTo or exposed as read-only mapped
+ * buffers, so previews never copy a whole file onto the heap.
+ */
+public class ResumeAccessService {
+    private final Path storageDir;
+
+    public ResumeAccessService(Path storageDir) {
+        this.storageDir = storageDir.toAbsolutePath().normalize();
+    }
+
+    public Path resolve(String resumePath) {
+        if (resumePath == null) {
+            throw new IllegalArgumentException("No resume stored");
+        }
+        Path file = Path.of(resumePath).toAbsolutePath().normalize();
+        if (!file.startsWith(storageDir)) {
+            throw new SecurityException("Resume is outside the resume store: " + resumePath);
+        }
+        return file;
+    }
+
+    public long size(String resumePath) throws IOException {
+        return Files.size(resolve(resumePath));
+    }
+
+    public String contentType(String resumePath) throws IOException {
+        String type = Files.probeContentType(resolve(resumePath));
+        return type != null ? type : "application/octet-stream";
+    }
+
+    /**
+     * Streams the range into target with zero-copy transfers where the
+     * platform supports them. Returns the number of bytes written.
+     */
+    public long transfer(String resumePath, ByteRange range, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(resumePath), StandardOpenOption.READ)) {
+            long end = Math.min(range.getEnd() + 1, channel.size());
+            long position = range.getStart();
+            while (position < end) {
+                long sent = channel.transferTo(position, end - position, target);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+            }
+            return position - range.getStart();
+        }
+    }
+
+    /**
+     * Maps the range read-only, e.g. to preview the first pages of a resume.
+     */
+    public ByteBuffer map(String resumePath, ByteRange range) throws IOException {
+        if (range.getLength() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Range too large to map: " + range);
+        }
+        try (FileChannel channel = FileChannel.open(resolve(resumePath), StandardOpenOption.READ)) {
+            long length = Math.min(range.getLength(), channel.size() - range.getStart());
+            if (length <= 0) {
+                throw new IllegalArgumentException("Range not satisfiable: " + range);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, range.getStart(), length);
+        }
+    }
+}
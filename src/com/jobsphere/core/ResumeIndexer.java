@@ -0,0 +1,236 @@
+package com.jobsphere.core;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Extracts text from stored resumes on a bounded worker pool and feeds it
+ * into an InvertedIndex, so companies can find applicants by what their
+ * resumes mention. Each stored resume is indexed once no matter how many
+ * applications share it.
+ *
+ * submit() never waits for indexing. The work queue is bounded; a resume
+ * that arrives while it is full is parked in an overflow set, which holds
+ * each resume at most once and is drained by the workers as the queue frees
+ * up. Bulk passes over existing resumes go through backfill(), which waits
+ * for room instead of filling the overflow set.
+ */
+public class ResumeIndexer {
+    private static final int QUEUE_CAPACITY = 1024;
+
+    private final List<ResumeTextExtractor> extractors = new CopyOnWriteArrayList<>();
+    private final InvertedIndex index = new InvertedIndex();
+    private final Map<String, Set<String>> ownersByResume = new ConcurrentHashMap<>();
+    private final Set<String> seen = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Queue<CompletableFuture<Void>> idleWaiters = new ConcurrentLinkedQueue<>();
+    // Resumes that found the queue full; each holds one pending count until drained
+    private final Set<String> overflow = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor workers;
+    private volatile BiConsumer<String, String> textListener;
+
+    public ResumeIndexer(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), r -> {
+                    Thread t = new Thread(r, "resume-indexer-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.MIN_PRIORITY);
+                    return t;
+                });
+        extractors.add(new PlainTextExtractor());
+    }
+
+    public void addExtractor(ResumeTextExtractor extractor) {
+        extractors.add(extractor);
+    }
+
+    /**
+     * Receives (username, resume text) on a worker thread whenever a resume
+     * is extracted for one of its owners.
+     */
+    public void setTextListener(BiConsumer<String, String> textListener) {
+        this.textListener = textListener;
+    }
+
+    /**
+     * Records that username owns the resume and queues it for indexing if it
+     * has not been seen before.
+     */
+    public void submit(String username, String resumePath) {
+        if (resumePath == null) {
+            return;
+        }
+        String key = Path.of(resumePath).toAbsolutePath().normalize().toString();
+        boolean newOwner = ownersByResume.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(username);
+        if (seen.add(key)) {
+            schedule(key, () -> indexResume(key));
+        } else if (newOwner && textListener != null) {
+            // Already indexed; only the new owner's listener still needs the text
+            schedule(key, () -> {
+                String text = extract(Path.of(key));
+                if (text != null) {
+                    textListener.accept(username, text);
+                }
+            });
+        }
+    }
+
+    /**
+     * Submits existing (username, resume) pairs from a background thread,
+     * waiting whenever the queue fills so a large pass never overflows it.
+     * Completes once everything submitted so far has been indexed.
+     */
+    public CompletableFuture<Void> backfill(List<Map.Entry<String, String>> owners) {
+        return CompletableFuture.runAsync(() -> {
+            for (Map.Entry<String, String> owner : owners) {
+                if (workers.getQueue().remainingCapacity() == 0) {
+                    whenIdle().join();
+                }
+                submit(owner.getKey(), owner.getValue());
+            }
+        }, r -> {
+            Thread t = new Thread(r, "resume-backfill");
+            t.setDaemon(true);
+            t.start();
+        }).thenCompose(v -> whenIdle());
+    }
+
+    /**
+     * Returns usernames whose resumes match the query, best match first.
+     */
+    public List<String> search(String query) {
+        Set<String> usernames = new LinkedHashSet<>();
+        for (String resume : index.search(query)) {
+            Set<String> owners = ownersByResume.get(resume);
+            if (owners != null) {
+                usernames.addAll(owners);
+            }
+        }
+        return new ArrayList<>(usernames);
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Completes once nothing is queued or running, e.g. after the initial
+     * pass over existing applications.
+     */
+    public CompletableFuture<Void> whenIdle() {
+        CompletableFuture<Void> idle = new CompletableFuture<>();
+        idleWaiters.add(idle);
+        // Checked after enqueueing so a concurrent last task cannot be missed
+        if (pending.get() == 0) {
+            completeIdleWaiters();
+        }
+        return idle;
+    }
+
+    private void schedule(String key, Runnable task) {
+        pending.incrementAndGet();
+        try {
+            workers.execute(tracked(task));
+        } catch (RejectedExecutionException e) {
+            park(key);
+            // Workers drain after each task, but they may all have finished
+            // between the rejection and the park
+            drainOverflow();
+        }
+    }
+
+    // Holds the caller's pending count for the key, or releases it if the key
+    // is already parked. Indexing a parked resume later notifies all of its
+    // owners, so a parked owner-only update is covered as well.
+    private void park(String key) {
+        if (!overflow.add(key)) {
+            finished();
+        }
+    }
+
+    // Moves parked resumes into the queue while it has room; never runs them here
+    private void drainOverflow() {
+        for (String key : overflow) {
+            if (workers.getQueue().remainingCapacity() == 0) {
+                return;
+            }
+            if (!overflow.remove(key)) {
+                continue;
+            }
+            try {
+                workers.execute(tracked(() -> indexResume(key)));
+            } catch (RejectedExecutionException e) {
+                park(key);
+                return;
+            }
+        }
+    }
+
+    private Runnable tracked(Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } finally {
+                drainOverflow();
+                finished();
+            }
+        };
+    }
+
+    private void finished() {
+        if (pending.decrementAndGet() == 0) {
+            completeIdleWaiters();
+        }
+    }
+
+    private void completeIdleWaiters() {
+        CompletableFuture<Void> idle;
+        while ((idle = idleWaiters.poll()) != null) {
+            idle.complete(null);
+        }
+    }
+
+    private void indexResume(String resumePath) {
+        String text = extract(Path.of(resumePath));
+        if (text == null) {
+            return;
+        }
+        index.index(resumePath, text);
+        BiConsumer<String, String> listener = textListener;
+        if (listener != null) {
+            for (String username : ownersByResume.getOrDefault(resumePath, Set.of())) {
+                listener.accept(username, text);
+            }
+        }
+    }
+
+    private String extract(Path file) {
+        for (ResumeTextExtractor extractor : extractors) {
+            if (extractor.supports(file)) {
+                try {
+                    return extractor.extract(file);
+                } catch (Exception e) {
+                    System.out.println("[ResumeIndexer] Could not index " + file + ": " + e.getMessage());
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
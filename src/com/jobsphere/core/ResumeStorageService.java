@@ -0,0 +1,207 @@
+package com.jobsphere.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Content-addressed resume store. Uploads are copied on a small worker pool
+ * so callers (the Swing EDT in particular) never wait on disk I/O, hashed
+ * with SHA-256 while they stream, and kept once per distinct content as
+ * {@code <hash>.<ext>}. Stored blobs are reference counted by the
+ * applications pointing at them.
+ */
+public class ResumeStorageService {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int SOURCE_CACHE_SIZE = 1024;
+
+    public interface ProgressListener {
+        void onProgress(long bytesCopied, long totalBytes);
+    }
+
+    private final Path storageDir;
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final Map<Path, Integer> refCounts = new HashMap<>();
+    // Source file (path, size, mtime) -> stored blob, so re-applying with the
+    // same resume skips the copy entirely
+    private final Map<String, Path> sourceCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Path> eldest) {
+            return size() > SOURCE_CACHE_SIZE;
+        }
+    };
+
+    public ResumeStorageService(Path storageDir, int workers, int maxInFlight) {
+        this.storageDir = storageDir.toAbsolutePath().normalize();
+        this.inFlight = new Semaphore(maxInFlight);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "resume-upload-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Stores the resume and completes with the blob path, already retained
+     * once on behalf of the caller. At most maxInFlight uploads are accepted
+     * at a time; beyond that the returned future fails immediately.
+     */
+    public CompletableFuture<Path> store(Path source, ProgressListener progress) {
+        if (!inFlight.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("Too many uploads in progress, please try again shortly"));
+        }
+        CompletableFuture<Path> result;
+        try {
+            result = CompletableFuture.supplyAsync(() -> copy(source, progress), executor);
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw e;
+        }
+        return result.whenComplete((path, error) -> inFlight.release());
+    }
+
+    public int getAvailableSlots() {
+        return inFlight.availablePermits();
+    }
+
+    public synchronized void retain(String resumePath) {
+        if (resumePath != null) {
+            refCounts.merge(normalize(resumePath), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Drops one reference and deletes the blob once nothing points at it.
+     */
+    public synchronized void release(String resumePath) {
+        if (resumePath == null) {
+            return;
+        }
+        Path blob = normalize(resumePath);
+        Integer count = refCounts.get(blob);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            refCounts.put(blob, count - 1);
+            return;
+        }
+        refCounts.remove(blob);
+        sourceCache.values().remove(blob);
+        if (blob.startsWith(storageDir)) {
+            try {
+                Files.deleteIfExists(blob);
+            } catch (IOException e) {
+                System.out.println("[ResumeStorage] Could not delete " + blob + ": " + e.getMessage());
+            }
+        }
+    }
+
+    public synchronized int getReferenceCount(String resumePath) {
+        return refCounts.getOrDefault(normalize(resumePath), 0);
+    }
+
+    private Path copy(Path source, ProgressListener progress) {
+        String sourceKey;
+        long total;
+        try {
+            total = Files.size(source);
+            sourceKey = source.toAbsolutePath() + "|" + total + "|" + Files.getLastModifiedTime(source).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        synchronized (this) {
+            Path known = sourceCache.get(sourceKey);
+            if (known != null && Files.exists(known)) {
+                refCounts.merge(known, 1, Integer::sum);
+                if (progress != null) {
+                    progress.onProgress(total, total);
+                }
+                return known;
+            }
+        }
+
+        String name = source.getFileName().toString();
+        String ext = "";
+        int i = name.lastIndexOf('.');
+        if (i > 0) ext = name.substring(i).toLowerCase();
+        Path part = null;
+        try {
+            Files.createDirectories(storageDir);
+            part = Files.createTempFile(storageDir, "upload-", ".part");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long copied = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (InputStream in = Files.newInputStream(source);
+                 OutputStream out = Files.newOutputStream(part)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                    copied += read;
+                    if (progress != null) {
+                        progress.onProgress(copied, total);
+                    }
+                }
+            }
+            Path blob = storageDir.resolve(toHex(digest.digest()) + ext);
+            synchronized (this) {
+                if (Files.exists(blob)) {
+                    Files.delete(part);
+                } else {
+                    Files.move(part, blob, StandardCopyOption.ATOMIC_MOVE);
+                }
+                refCounts.merge(blob, 1, Integer::sum);
+                sourceCache.put(sourceKey, blob);
+            }
+            return blob;
+        } catch (IOException e) {
+            deletePart(part);
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            deletePart(part);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Path normalize(String resumePath) {
+        return Path.of(resumePath).toAbsolutePath().normalize();
+    }
+
+    private static void deletePart(Path part) {
+        if (part == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(part);
+        } catch (IOException ignored) {
+            // Leftover .part files are harmless
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,10 @@
+package com.jobsphere.core;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface ResumeTextExtractor {
+    boolean supports(Path file);
+
+    String extract(Path file) throws IOException;
+}
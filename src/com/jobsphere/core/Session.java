@@ -0,0 +1,37 @@
+package com.jobsphere.core;
+
+public class Session {
+    private final String token;
+    private final User user;
+    private final long createdAt;
+    private volatile long lastAccessedAt;
+    // Expiry timer; guarded by the owning SessionManager
+    TimerWheel.Entry<Session> timer;
+
+    Session(String token, User user, long createdAt) {
+        this.token = token;
+        this.user = user;
+        this.createdAt = createdAt;
+        this.lastAccessedAt = createdAt;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    void touch(long now) {
+        lastAccessedAt = now;
+    }
+}
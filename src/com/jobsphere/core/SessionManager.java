@@ -0,0 +1,151 @@
+package com.jobsphere.core;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Issues opaque session tokens and resolves them back to sessions. A token is
+ * 256 random bits; validation is a single map lookup plus two timestamp
+ * comparisons and never locks. Sessions end after an idle timeout or an
+ * absolute lifetime, whichever comes first.
+ *
+ * Expiry is driven by one timer wheel ticking once a second rather than a
+ * timer per session. A validation only bumps the session's last-access time;
+ * the wheel entry is left where it is and, when it fires early, is re-filed
+ * at the session's current deadline. The number of live sessions is capped
+ * so memory stays bounded under a login flood.
+ */
+public class SessionManager {
+    private static final int TOKEN_BYTES = 32;
+    private static final long TICK_MILLIS = 1000;
+
+    private final long idleMillis;
+    private final long absoluteMillis;
+    private final int maxSessions;
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger liveSessions = new AtomicInteger();
+    private final TimerWheel<Session> wheel;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "session-expiry");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SessionManager(Duration idleTimeout, Duration absoluteTimeout, int maxSessions) {
+        if (idleTimeout.isNegative() || idleTimeout.isZero() || absoluteTimeout.compareTo(idleTimeout) < 0) {
+            throw new IllegalArgumentException("Timeouts must be positive, absolute no shorter than idle");
+        }
+        this.idleMillis = idleTimeout.toMillis();
+        this.absoluteMillis = absoluteTimeout.toMillis();
+        this.maxSessions = maxSessions;
+        this.wheel = new TimerWheel<>(TICK_MILLIS, System.currentTimeMillis());
+        ticker.scheduleAtFixedRate(() -> expireDue(System.currentTimeMillis()),
+                TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts a session for an authenticated user. Throws SecurityException
+     * when the session cap is reached and nothing has expired to make room.
+     */
+    public Session create(User user) {
+        long now = System.currentTimeMillis();
+        if (liveSessions.incrementAndGet() > maxSessions) {
+            liveSessions.decrementAndGet();
+            expireDue(now);
+            if (liveSessions.incrementAndGet() > maxSessions) {
+                liveSessions.decrementAndGet();
+                throw new SecurityException("Too many active sessions. Please try again later.");
+            }
+        }
+        Session session = new Session(newToken(), user, now);
+        sessions.put(session.getToken(), session);
+        synchronized (wheel) {
+            session.timer = wheel.schedule(session, deadline(session));
+        }
+        return session;
+    }
+
+    /**
+     * Returns the live session for a token and records the access, or null
+     * if the token is unknown or its session has expired.
+     */
+    public Session validate(String token) {
+        if (token == null) {
+            return null;
+        }
+        Session session = sessions.get(token);
+        if (session == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (now >= deadline(session)) {
+            end(session);
+            return null;
+        }
+        // Writes are skipped within a tick: expiry is only tick-accurate anyway,
+        // and it keeps hot sessions from bouncing a cache line between readers
+        if (now - session.getLastAccessedAt() >= TICK_MILLIS) {
+            session.touch(now);
+        }
+        return session;
+    }
+
+    public void invalidate(String token) {
+        if (token == null) {
+            return;
+        }
+        Session session = sessions.get(token);
+        if (session != null) {
+            end(session);
+        }
+    }
+
+    public int size() {
+        return liveSessions.get();
+    }
+
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    void expireDue(long now) {
+        synchronized (wheel) {
+            wheel.advance(now, entry -> {
+                Session session = entry.value;
+                long deadline = deadline(session);
+                if (deadline > now) {
+                    wheel.reschedule(entry, deadline);
+                } else if (sessions.remove(session.getToken(), session)) {
+                    liveSessions.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private void end(Session session) {
+        if (sessions.remove(session.getToken(), session)) {
+            liveSessions.decrementAndGet();
+            synchronized (wheel) {
+                wheel.cancel(session.timer);
+            }
+        }
+    }
+
+    private long deadline(Session session) {
+        return Math.min(session.getLastAccessedAt() + idleMillis, session.getCreatedAt() + absoluteMillis);
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
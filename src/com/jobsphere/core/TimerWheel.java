@@ -0,0 +1,170 @@
+package com.jobsphere.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: four levels of 64 slots, each level's slot
+ * spanning 64 slots of the level below. Scheduling and cancelling are O(1);
+ * advancing costs one slot per tick plus an occasional cascade of a higher
+ * slot into the lower levels. Deadlines further out than the top level
+ * covers are parked in its last reachable slot and re-filed when it cascades.
+ * Not thread-safe.
+ */
+class TimerWheel<T> {
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final long SPAN = 1L << (LEVELS * SLOT_BITS);
+
+    static final class Entry<T> {
+        final T value;
+        long deadline;
+        Entry<T> prev;
+        Entry<T> next;
+        Slot<T> slot;
+
+        Entry(T value) {
+            this.value = value;
+        }
+    }
+
+    // Head of one slot's doubly linked list of entries
+    static final class Slot<T> {
+        Entry<T> head;
+    }
+
+    private final long tickMillis;
+    // LEVELS rows of SLOTS slots, row-major
+    private final List<Slot<T>> slots = new ArrayList<>(LEVELS * SLOTS);
+    private long currentTick;
+    private int size;
+
+    TimerWheel(long tickMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = nowMillis / tickMillis;
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            slots.add(new Slot<>());
+        }
+    }
+
+    Entry<T> schedule(T value, long deadlineMillis) {
+        Entry<T> entry = new Entry<>(value);
+        entry.deadline = deadlineMillis;
+        link(entry);
+        size++;
+        return entry;
+    }
+
+    /**
+     * Moves an entry to a new deadline, re-arming it if it has already
+     * expired or been cancelled.
+     */
+    void reschedule(Entry<T> entry, long deadlineMillis) {
+        if (entry.slot != null) {
+            unlink(entry);
+        } else {
+            size++;
+        }
+        entry.deadline = deadlineMillis;
+        link(entry);
+    }
+
+    void cancel(Entry<T> entry) {
+        if (entry.slot != null) {
+            unlink(entry);
+            size--;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Advances to {@code nowMillis}, handing each entry whose deadline has
+     * passed to {@code expired}. An entry is removed before it is handed
+     * over, so the callback may reschedule it.
+     */
+    void advance(long nowMillis, Consumer<Entry<T>> expired) {
+        long target = nowMillis / tickMillis;
+        while (currentTick < target) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (level * SLOT_BITS)) - 1)) == 0) {
+                    Entry<T> entry = detach(slot(level, currentTick));
+                    while (entry != null) {
+                        Entry<T> next = entry.next;
+                        entry.next = null;
+                        link(entry);
+                        entry = next;
+                    }
+                }
+            }
+            Entry<T> entry = detach(slot(0, currentTick));
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                entry.next = null;
+                if (tickOf(entry.deadline) <= currentTick) {
+                    size--;
+                    expired.accept(entry);
+                } else {
+                    link(entry);
+                }
+                entry = next;
+            }
+        }
+    }
+
+    private void link(Entry<T> entry) {
+        long tick = Math.max(tickOf(entry.deadline), currentTick + 1);
+        long delta = Math.min(tick - currentTick, SPAN - 1);
+        tick = currentTick + delta;
+        int level = 0;
+        while (delta >= 1L << ((level + 1) * SLOT_BITS)) {
+            level++;
+        }
+        Slot<T> slot = slot(level, tick);
+        entry.slot = slot;
+        entry.prev = null;
+        entry.next = slot.head;
+        if (slot.head != null) {
+            slot.head.prev = entry;
+        }
+        slot.head = entry;
+    }
+
+    private void unlink(Entry<T> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            entry.slot.head = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.slot = null;
+    }
+
+    // Empties a slot and returns its former head; the entries stay chained by next
+    private static <T> Entry<T> detach(Slot<T> slot) {
+        Entry<T> head = slot.head;
+        slot.head = null;
+        for (Entry<T> e = head; e != null; e = e.next) {
+            e.prev = null;
+            e.slot = null;
+        }
+        return head;
+    }
+
+    private long tickOf(long millis) {
+        return (millis + tickMillis - 1) / tickMillis;
+    }
+
+    private Slot<T> slot(int level, long tick) {
+        return slots.get(level * SLOTS + (int) ((tick >>> (level * SLOT_BITS)) & (SLOTS - 1)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.jobsphere.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class Tokenizer {
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "our", "that", "the", "to", "we", "will", "with", "you", "your");
+
+    private Tokenizer() {
+    }
+
+    // Splits text into lower-case alphanumeric terms in a single pass,
+    // without allocating a lower-cased copy of the whole input.
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(Character.toLowerCase(c));
+            } else if (current.length() > 0) {
+                terms.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            terms.add(current.toString());
+        }
+        return terms;
+    }
+
+    public static boolean isStopWord(String term) {
+        return STOP_WORDS.contains(term);
+    }
+}
@@ -3,8 +3,9 @@ package com.jobsphere.core;
 
 public abstract class User {
     protected String username;
-    protected String password;
-    protected String email;
+    // Encoded by PasswordHasher; plaintext for accounts not yet upgraded
+    protected volatile String password;
+    protected volatile String email;
 
     public User(String username, String password, String email) {
         this.username = username;
@@ -16,8 +17,12 @@ public abstract class User {
         return username;
     }
 
-    public boolean checkPassword(String password) {
-        return this.password.equals(password);
+    String getPassword() {
+        return password;
+    }
+
+    void setPassword(String password) {
+        this.password = password;
     }
 
     public abstract String getRole();
@@ -5,7 +5,12 @@ import java.util.List;
 public interface UserRepository {
     void add(User user);
 
+    // Records changes made to a stored user's password, email or resume path
+    void update(User user);
+
     User findByUsername(String username);
 
     List<User> findByRole(String role);
+
+    List<User> findAll();
 }
@@ -2,25 +2,45 @@ package com.jobsphere.ui;
 
 import com.jobsphere.core.*;
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 public class ApplicantPanel extends JPanel {
     private MainFrame mainFrame;
     private JTable jobTable;
-    private DefaultTableModel tableModel;
+    private PagedTableModel<Job> tableModel;
     private JTextField searchField;
-    private SearchStrategy searchStrategy;
     private JToggleButton showSavedBtn;
     private JButton saveBtn;
-    private static final String RESUME_DIR = "resumes";
     private JTable myAppsTable;
     private DefaultTableModel myAppsModel;
+    private static final int JOB_PAGE_SIZE = 100;
+    private static final int SEARCH_DEBOUNCE_MS = 250;
+    private static final int SEARCH_CHUNK_SIZE = 200;
+    private SearchExecutor<Job> searchExecutor;
+    private List<Job> jobRows = new ArrayList<>();
+    private static final int MAX_SKILL_CHOICES = 50;
+    private JComboBox<FacetChoice> companyCombo;
+    private JComboBox<FacetChoice> skillCombo;
+    private boolean updatingFacets;
+    private final String username;
+    // Applications in the same order as the rows of myAppsModel
+    private final List<JobApplication> myApps = new ArrayList<>();
+    private final DomainEventListener eventListener = batch -> SwingUtilities.invokeLater(() -> applyEvents(batch));
 
     public ApplicantPanel(MainFrame frame) {
         this.mainFrame = frame;
-        this.searchStrategy = new KeywordSearchStrategy();
+        this.username = DataManager.getInstance().getCurrentUser().getUsername();
         setLayout(new BorderLayout());
         setBackground(new Color(245, 245, 250));
 
@@ -40,6 +60,7 @@ public class ApplicantPanel extends JPanel {
         logoutBtn.setBackground(Color.WHITE);
         logoutBtn.setForeground(new Color(59, 130, 246));
         logoutBtn.addActionListener(e -> {
+            DataManager.getInstance().getEventBus().unsubscribe(eventListener);
             DataManager.getInstance().logout();
             mainFrame.showCard("LOGIN");
         });
@@ -54,13 +75,10 @@ public class ApplicantPanel extends JPanel {
         tabs.setFont(new Font("Segoe UI", Font.BOLD, 13));
         tabs.addTab("Browse Jobs", createBrowseJobsPanel());
         tabs.addTab("My Applications", createMyApplicationsPanel());
-        tabs.addChangeListener(e -> {
-            if (tabs.getSelectedIndex() == 1) {
-                refreshMyApplications();
-            }
-        });
         add(tabs, BorderLayout.CENTER);
+        DataManager.getInstance().getEventBus().subscribe(eventListener);
         refreshJobList();
+        refreshMyApplications();
     }
 
     private JPanel createBrowseJobsPanel() {
@@ -71,12 +89,31 @@ public class ApplicantPanel extends JPanel {
         searchPanel.setBackground(Color.WHITE);
         searchPanel.add(new JLabel("Keywords:"));
         searchField = new JTextField(20);
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                scheduleJobSearch();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                scheduleJobSearch();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                scheduleJobSearch();
+            }
+        });
         searchPanel.add(searchField);
 
         JButton searchBtn = new JButton("Search");
         searchBtn.setBackground(new Color(59, 130, 246));
         searchBtn.setForeground(Color.WHITE);
-        searchBtn.addActionListener(e -> refreshJobList());
+        searchBtn.addActionListener(e -> {
+            reloadFacetChoices();
+            refreshJobList();
+        });
         searchPanel.add(searchBtn);
 
         showSavedBtn = new JToggleButton("Show Saved Only");
@@ -84,16 +121,47 @@ public class ApplicantPanel extends JPanel {
         showSavedBtn.setForeground(Color.BLACK);
         showSavedBtn.addActionListener(e -> refreshJobList());
         searchPanel.add(showSavedBtn);
+
+        companyCombo = new JComboBox<>();
+        companyCombo.addActionListener(e -> {
+            if (!updatingFacets) refreshJobList();
+        });
+        searchPanel.add(new JLabel("Company:"));
+        searchPanel.add(companyCombo);
+
+        skillCombo = new JComboBox<>();
+        skillCombo.addActionListener(e -> {
+            if (!updatingFacets) refreshJobList();
+        });
+        searchPanel.add(new JLabel("Skill:"));
+        searchPanel.add(skillCombo);
+        reloadFacetChoices();
         panel.add(searchPanel, BorderLayout.NORTH);
 
-        String[] cols = {"ID", "Title", "Company", "Description", "Requirements"};
-        tableModel = new DefaultTableModel(cols, 0);
+        String[] cols = {"Title", "Company", "Description", "Requirements"};
+        tableModel = new PagedTableModel<>(cols, JOB_PAGE_SIZE, ApplicantPanel::jobCell);
+        searchExecutor = new SearchExecutor<>(new SearchExecutor.ResultSink<Job>() {
+            @Override
+            public void begin() {
+                jobRows = new ArrayList<>();
+                tableModel.setSource(PagedTableModel.listSource(jobRows));
+            }
+
+            @Override
+            public void append(List<Job> chunk) {
+                jobRows.addAll(chunk);
+                tableModel.rowsAppended(jobRows.size());
+            }
+
+            @Override
+            public void finished() {
+                updateButtons();
+            }
+        }, SEARCH_DEBOUNCE_MS, SEARCH_CHUNK_SIZE);
         jobTable = new JTable(tableModel);
         jobTable.setRowHeight(35);
         jobTable.setSelectionBackground(new Color(59, 130, 246));
         jobTable.getSelectionModel().addListSelectionListener(e -> updateButtons());
-        jobTable.getColumnModel().getColumn(0).setMinWidth(0);
-        jobTable.getColumnModel().getColumn(0).setMaxWidth(0);
         panel.add(new JScrollPane(jobTable), BorderLayout.CENTER);
 
         JPanel btnPanel = new JPanel();
@@ -123,12 +191,6 @@ public class ApplicantPanel extends JPanel {
         JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 15, 15));
         topPanel.setBackground(Color.WHITE);
         topPanel.add(new JLabel("Track your job applications:"));
-
-        JButton refreshBtn = new JButton("Refresh");
-        refreshBtn.setBackground(new Color(59, 130, 246));
-        refreshBtn.setForeground(Color.WHITE);
-        refreshBtn.addActionListener(e -> refreshMyApplications());
-        topPanel.add(refreshBtn);
         panel.add(topPanel, BorderLayout.NORTH);
 
         String[] cols = {"Job Title", "Company", "Status"};
@@ -154,24 +216,66 @@ public class ApplicantPanel extends JPanel {
 
     private void refreshMyApplications() {
         myAppsModel.setRowCount(0);
-        User currentUser = DataManager.getInstance().getCurrentUser();
-        if (currentUser == null) return;
-        List<JobApplication> apps = DataManager.getInstance().getApplicationsByUser(currentUser.getUsername());
-        for (JobApplication app : apps) {
-            myAppsModel.addRow(new Object[]{
-                app.getJob().getTitle(),
-                app.getJob().getCompanyUsername(),
-                app.getStatus()
-            });
+        myApps.clear();
+        for (JobApplication app : DataManager.getInstance().getApplicationsByUser(username)) {
+            myApps.add(app);
+            myAppsModel.addRow(applicationRow(app));
+        }
+    }
+
+    private static Object[] applicationRow(JobApplication app) {
+        return new Object[]{app.getJob().getTitle(), app.getJob().getCompanyUsername(), app.getStatus()};
+    }
+
+    // Applies a batch of domain events as row-level changes; runs on the EDT
+    private void applyEvents(List<DomainEvent> batch) {
+        for (DomainEvent event : batch) {
+            Job job = event.getJob();
+            switch (event.getType()) {
+                case APPLICATION_ADDED:
+                    if (username.equals(event.getApplication().getApplicantUsername())) {
+                        myApps.add(event.getApplication());
+                        myAppsModel.addRow(applicationRow(event.getApplication()));
+                    }
+                    break;
+                case STATE_CHANGED:
+                    int appRow = myApps.indexOf(event.getApplication());
+                    if (appRow != -1) {
+                        myAppsModel.setValueAt(event.getApplication().getStatus(), appRow, 2);
+                    }
+                    break;
+                case JOB_ADDED:
+                    // Where a new job ranks depends on the query; search again
+                    scheduleJobSearch();
+                    break;
+                case JOB_REMOVED:
+                case JOB_UPDATED:
+                    for (int i = 0; i < myApps.size(); i++) {
+                        if (myApps.get(i).getJob() == job) {
+                            myAppsModel.setValueAt(job.getTitle(), i, 0);
+                        }
+                    }
+                    int jobRow = jobRows.indexOf(job);
+                    if (jobRow == -1) {
+                        if (event.getType() == DomainEvent.Type.JOB_UPDATED && job.isActive()) {
+                            scheduleJobSearch();
+                        }
+                    } else if (event.getType() == DomainEvent.Type.JOB_REMOVED || !job.isActive()) {
+                        jobRows.remove(jobRow);
+                        tableModel.rowRemoved(jobRow);
+                    } else {
+                        tableModel.rowsUpdated(j -> j == job);
+                    }
+                    break;
+            }
         }
     }
 
     private void updateButtons() {
-        int row = jobTable.getSelectedRow();
-        if (row != -1) {
-            String jobId = (String) tableModel.getValueAt(row, 0);
+        Job job = tableModel.getRow(jobTable.getSelectedRow());
+        if (job != null) {
             Applicant applicant = (Applicant) DataManager.getInstance().getCurrentUser();
-            saveBtn.setText(applicant.isJobSaved(jobId) ? "Unsave Job" : "Save Job");
+            saveBtn.setText(applicant.isJobSaved(job.getId()) ? "Unsave Job" : "Save Job");
             saveBtn.setEnabled(true);
         } else {
             saveBtn.setEnabled(false);
@@ -179,29 +283,126 @@ public class ApplicantPanel extends JPanel {
     }
 
     private void refreshJobList() {
-        tableModel.setRowCount(0);
-        List<Job> allJobs = DataManager.getInstance().getJobs();
-        List<Job> filtered = searchStrategy.search(allJobs, searchField.getText());
+        CompressedBitmap selected = DataManager.getInstance().getFacetIndex().select(selectedFacets());
+        searchExecutor.submit(jobSearch(selected), jobFilter(selected));
+    }
+
+    private void scheduleJobSearch() {
+        CompressedBitmap selected = DataManager.getInstance().getFacetIndex().select(selectedFacets());
+        searchExecutor.schedule(jobSearch(selected), jobFilter(selected));
+    }
+
+    private Supplier<List<Job>> jobSearch(CompressedBitmap selected) {
+        String query = searchField.getText();
+        FacetIndex facets = DataManager.getInstance().getFacetIndex();
+        if (query.trim().isEmpty()) {
+            if (showSavedBtn.isSelected()) {
+                Applicant applicant = (Applicant) DataManager.getInstance().getCurrentUser();
+                return () -> DataManager.getInstance().getSavedActiveJobs(applicant);
+            }
+            return () -> facets.jobs(selected);
+        }
+        return () -> DataManager.getInstance().searchJobs(query);
+    }
+
+    private UnaryOperator<List<Job>> jobFilter(CompressedBitmap selected) {
         Applicant applicant = (Applicant) DataManager.getInstance().getCurrentUser();
-        boolean showSaved = showSavedBtn.isSelected();
-        for (Job j : filtered) {
-            if (j.isActive()) {
-                if (showSaved && !applicant.isJobSaved(j.getId())) continue;
-                tableModel.addRow(new Object[]{j.getId(), j.getTitle(), j.getCompanyUsername(), 
-                    j.getDescription(), j.getRequirements()});
+        boolean savedOnly = showSavedBtn.isSelected();
+        FacetIndex facets = DataManager.getInstance().getFacetIndex();
+        return chunk -> {
+            List<Job> kept = new ArrayList<>(chunk.size());
+            List<String> ids = new ArrayList<>(chunk.size());
+            for (Job j : chunk) {
+                if (facets.contains(selected, j)) {
+                    kept.add(j);
+                    ids.add(j.getId());
+                }
             }
+            if (!savedOnly || kept.isEmpty()) {
+                return kept;
+            }
+            // One bulk lookup per chunk rather than a copy of the whole saved set
+            Set<String> saved = new HashSet<>(applicant.filterSaved(ids));
+            kept.removeIf(j -> !saved.contains(j.getId()));
+            return kept;
+        };
+    }
+
+    private Map<String, String> selectedFacets() {
+        Map<String, String> selections = new HashMap<>();
+        selections.put(FacetIndex.ACTIVE, "true");
+        FacetChoice company = (FacetChoice) companyCombo.getSelectedItem();
+        if (company != null && company.value != null) {
+            selections.put(FacetIndex.COMPANY, company.value);
+        }
+        FacetChoice skill = (FacetChoice) skillCombo.getSelectedItem();
+        if (skill != null && skill.value != null) {
+            selections.put(FacetIndex.REQUIREMENT, skill.value);
+        }
+        return selections;
+    }
+
+    // Counts are over active jobs; the current selection is kept when still offered
+    private void reloadFacetChoices() {
+        FacetIndex facets = DataManager.getInstance().getFacetIndex();
+        CompressedBitmap active = facets.select(Map.of(FacetIndex.ACTIVE, "true"));
+        updatingFacets = true;
+        try {
+            fillChoices(companyCombo, "Any company", facets.counts(FacetIndex.COMPANY, active), Integer.MAX_VALUE);
+            fillChoices(skillCombo, "Any skill", facets.counts(FacetIndex.REQUIREMENT, active), MAX_SKILL_CHOICES);
+        } finally {
+            updatingFacets = false;
+        }
+    }
+
+    private void fillChoices(JComboBox<FacetChoice> combo, String anyLabel, Map<String, Integer> counts, int limit) {
+        FacetChoice previous = (FacetChoice) combo.getSelectedItem();
+        combo.removeAllItems();
+        combo.addItem(new FacetChoice(null, anyLabel));
+        int added = 0;
+        for (Map.Entry<String, Integer> e : counts.entrySet()) {
+            if (added++ == limit) break;
+            FacetChoice choice = new FacetChoice(e.getKey(), e.getKey() + " (" + e.getValue() + ")");
+            combo.addItem(choice);
+            if (previous != null && e.getKey().equals(previous.value)) {
+                combo.setSelectedItem(choice);
+            }
+        }
+    }
+
+    private static class FacetChoice {
+        final String value;
+        final String label;
+
+        FacetChoice(String value, String label) {
+            this.value = value;
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    private static Object jobCell(Job job, int column) {
+        switch (column) {
+            case 0: return job.getTitle();
+            case 1: return job.getCompanyUsername();
+            case 2: return job.getDescription();
+            default: return job.getRequirements();
         }
     }
 
     private void toggleSaveJob() {
-        int row = jobTable.getSelectedRow();
-        if (row == -1) return;
-        String jobId = (String) tableModel.getValueAt(row, 0);
+        Job job = tableModel.getRow(jobTable.getSelectedRow());
+        if (job == null) return;
+        String jobId = job.getId();
         Applicant applicant = (Applicant) DataManager.getInstance().getCurrentUser();
         if (applicant.isJobSaved(jobId)) {
-            applicant.removeSavedJob(jobId);
+            DataManager.getInstance().removeSavedJob(applicant, jobId);
         } else {
-            applicant.saveJob(jobId);
+            DataManager.getInstance().saveJob(applicant, jobId);
         }
         updateButtons();
         if (showSavedBtn.isSelected()) refreshJobList();
@@ -227,21 +428,18 @@ public class ApplicantPanel extends JPanel {
         panel.add(browseBtn);
         int result = JOptionPane.showConfirmDialog(this, panel, "Edit Profile", JOptionPane.OK_CANCEL_OPTION);
         if (result == JOptionPane.OK_OPTION) {
-            applicant.setEmail(emailField.getText());
-            applicant.setResumePath(resumeField.getText());
+            DataManager.getInstance().updateProfile(applicant, emailField.getText(), resumeField.getText());
             JOptionPane.showMessageDialog(this, "Profile Updated!");
         }
     }
 
     private void applyToJob() {
-        int row = jobTable.getSelectedRow();
-        if (row == -1) {
+        Job row = tableModel.getRow(jobTable.getSelectedRow());
+        if (row == null) {
             JOptionPane.showMessageDialog(this, "Select a job first");
             return;
         }
-        String jobId = (String) tableModel.getValueAt(row, 0);
-        Job selectedJob = DataManager.getInstance().getJobs().stream()
-            .filter(j -> j.getId().equals(jobId)).findFirst().orElse(null);
+        Job selectedJob = DataManager.getInstance().getJob(row.getId());
         if (selectedJob == null) return;
 
         User currentUser = DataManager.getInstance().getCurrentUser();
@@ -269,25 +467,25 @@ public class ApplicantPanel extends JPanel {
             return;
         }
 
-        try {
-            java.io.File source = new java.io.File(resumeToUse);
-            java.io.File destDir = new java.io.File(RESUME_DIR);
-            if (!destDir.exists()) destDir.mkdir();
-            String ext = "";
-            int i = source.getName().lastIndexOf('.');
-            if (i > 0) ext = source.getName().substring(i);
-            String destName = applicant.getUsername() + "_" + System.currentTimeMillis() + ext;
-            java.io.File dest = new java.io.File(destDir, destName);
-            java.nio.file.Files.copy(source.toPath(), dest.toPath(), 
-                java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-            resumeToUse = dest.getAbsolutePath();
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, "Error uploading resume: " + e.getMessage());
-            return;
-        }
-
-        JobApplication app = new JobApplication(currentUser.getUsername(), selectedJob, resumeToUse);
-        DataManager.getInstance().addApplication(app);
-        JOptionPane.showMessageDialog(this, "Applied successfully!");
+        JProgressBar progressBar = new JProgressBar(0, 100);
+        progressBar.setStringPainted(true);
+        JDialog progressDialog = new JDialog(SwingUtilities.getWindowAncestor(this), "Uploading Resume");
+        progressDialog.add(progressBar);
+        progressDialog.setSize(300, 80);
+        progressDialog.setLocationRelativeTo(this);
+        progressDialog.setVisible(true);
+
+        DataManager.getInstance().applyToJob(currentUser, selectedJob, java.nio.file.Paths.get(resumeToUse),
+            (copied, total) -> SwingUtilities.invokeLater(() ->
+                progressBar.setValue(total == 0 ? 100 : (int) (copied * 100 / total))))
+            .whenComplete((app, error) -> SwingUtilities.invokeLater(() -> {
+                progressDialog.dispose();
+                if (error != null) {
+                    Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    JOptionPane.showMessageDialog(this, "Error uploading resume: " + cause.getMessage());
+                } else {
+                    JOptionPane.showMessageDialog(this, "Applied successfully!");
+                }
+            }));
     }
 }
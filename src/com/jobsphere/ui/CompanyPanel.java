@@ -5,20 +5,35 @@ import com.jobsphere.core.*;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.util.ArrayList;
 import java.util.List;
 
 public class CompanyPanel extends JPanel {
     private MainFrame mainFrame;
     private JTable appsTable;
-    private DefaultTableModel appsModel;
+    private PagedTableModel<JobApplication> appsModel;
     private JTable myJobsTable;
     private DefaultTableModel jobsModel;
     private JTable candidatesTable;
     private DefaultTableModel candidatesModel;
     private JTextField candidateSearchField;
+    private JButton loadMoreCandidatesBtn;
+    private JCheckBox searchResumesBox;
+    // Query and cursor of the candidate search being paged
+    private String candidateQuery;
+    private String lastCandidate;
+    private static final int CANDIDATE_PAGE_SIZE = 50;
+    private static final int RESUME_PREVIEW_BYTES = 16 * 1024;
+    private static final int TOP_CANDIDATES = 10;
+    private static final int APPLICATION_PAGE_SIZE = 100;
+    private final String companyUsername;
+    // Jobs in the same order as the rows of jobsModel
+    private final List<Job> myJobs = new ArrayList<>();
+    private final DomainEventListener eventListener = batch -> SwingUtilities.invokeLater(() -> applyEvents(batch));
 
     public CompanyPanel(MainFrame frame) {
         this.mainFrame = frame;
+        this.companyUsername = DataManager.getInstance().getCurrentUser().getUsername();
         setLayout(new BorderLayout());
         setBackground(new Color(245, 245, 250));
 
@@ -33,6 +48,7 @@ public class CompanyPanel extends JPanel {
         JButton logoutBtn = new JButton("Logout");
         styleHeaderButton(logoutBtn);
         logoutBtn.addActionListener(e -> {
+            DataManager.getInstance().getEventBus().unsubscribe(eventListener);
             DataManager.getInstance().logout();
             mainFrame.showCard("LOGIN");
         });
@@ -52,6 +68,9 @@ public class CompanyPanel extends JPanel {
         tabs.addTab("Search Candidates", createSearchCandidatesPanel());
 
         add(tabs, BorderLayout.CENTER);
+        DataManager.getInstance().getEventBus().subscribe(eventListener);
+        refreshMyJobs();
+        refreshApps();
     }
 
     private JPanel createPostJobPanel() {
@@ -100,12 +119,11 @@ public class CompanyPanel extends JPanel {
         panel.add(postBtn, gbc);
 
         postBtn.addActionListener(e -> {
-            User user = DataManager.getInstance().getCurrentUser();
             Job job = new JobBuilder()
                     .setTitle(titleField.getText())
                     .setDescription(descArea.getText())
                     .setRequirements(reqArea.getText())
-                    .setCompanyUsername(user.getUsername())
+                    .setCompanyUsername(companyUsername)
                     .build();
             DataManager.getInstance().addJob(job);
 
@@ -113,8 +131,6 @@ public class CompanyPanel extends JPanel {
             titleField.setText("");
             descArea.setText("");
             reqArea.setText("");
-            refreshMyJobs();
-            refreshApps();
         });
 
         return panel;
@@ -124,16 +140,8 @@ public class CompanyPanel extends JPanel {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setBackground(new Color(245, 245, 250));
 
-        JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 15, 10));
-        topPanel.setBackground(Color.WHITE);
-        JButton refreshBtn = new JButton("Refresh Applications");
-        styleButton(refreshBtn, new Color(59, 130, 246), Color.WHITE);
-        refreshBtn.addActionListener(e -> refreshApps());
-        topPanel.add(refreshBtn);
-        panel.add(topPanel, BorderLayout.NORTH);
-
         String[] cols = { "Job Title", "Applicant", "Status" };
-        appsModel = new DefaultTableModel(cols, 0);
+        appsModel = new PagedTableModel<>(cols, APPLICATION_PAGE_SIZE, CompanyPanel::applicationCell);
         appsTable = new JTable(appsModel);
         styleTable(appsTable);
         panel.add(new JScrollPane(appsTable), BorderLayout.CENTER);
@@ -170,14 +178,6 @@ public class CompanyPanel extends JPanel {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setBackground(new Color(245, 245, 250));
 
-        JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 15, 10));
-        topPanel.setBackground(Color.WHITE);
-        JButton refreshBtn = new JButton("Refresh Jobs");
-        styleButton(refreshBtn, new Color(59, 130, 246), Color.WHITE);
-        refreshBtn.addActionListener(e -> refreshMyJobs());
-        topPanel.add(refreshBtn);
-        panel.add(topPanel, BorderLayout.NORTH);
-
         String[] cols = { "Title", "Status" };
         jobsModel = new DefaultTableModel(cols, 0) {
             @Override
@@ -204,9 +204,14 @@ public class CompanyPanel extends JPanel {
         styleButton(removeBtn, new Color(239, 68, 68), Color.WHITE);
         removeBtn.addActionListener(e -> removeJob());
 
+        JButton matchBtn = new JButton("Top Candidates");
+        styleButton(matchBtn, new Color(16, 185, 129), Color.WHITE);
+        matchBtn.addActionListener(e -> showTopCandidates());
+
         btnPanel.add(editBtn);
         btnPanel.add(toggleBtn);
         btnPanel.add(removeBtn);
+        btnPanel.add(matchBtn);
         panel.add(btnPanel, BorderLayout.SOUTH);
 
         return panel;
@@ -228,8 +233,12 @@ public class CompanyPanel extends JPanel {
         styleButton(searchBtn, new Color(59, 130, 246), Color.WHITE);
         searchBtn.addActionListener(e -> searchCandidates());
 
+        searchResumesBox = new JCheckBox("Search resume text");
+        searchResumesBox.setOpaque(false);
+
         searchPanel.add(searchLabel);
         searchPanel.add(candidateSearchField);
+        searchPanel.add(searchResumesBox);
         searchPanel.add(searchBtn);
         panel.add(searchPanel, BorderLayout.NORTH);
 
@@ -245,6 +254,12 @@ public class CompanyPanel extends JPanel {
         styleButton(viewProfileBtn, new Color(59, 130, 246), Color.WHITE);
         viewProfileBtn.addActionListener(e -> viewCandidateProfile());
         btnPanel.add(viewProfileBtn);
+
+        loadMoreCandidatesBtn = new JButton("Load More");
+        styleButton(loadMoreCandidatesBtn, new Color(180, 180, 180), Color.BLACK);
+        loadMoreCandidatesBtn.addActionListener(e -> loadCandidatePage());
+        loadMoreCandidatesBtn.setEnabled(false);
+        btnPanel.add(loadMoreCandidatesBtn);
         panel.add(btnPanel, BorderLayout.SOUTH);
 
         return panel;
@@ -282,72 +297,57 @@ public class CompanyPanel extends JPanel {
     }
 
     private void refreshApps() {
-        appsModel.setRowCount(0);
-        User user = DataManager.getInstance().getCurrentUser();
-        List<Job> myJobs = DataManager.getInstance().getJobsByCompany(user.getUsername());
-
+        List<String> myJobIds = new ArrayList<>();
         for (Job job : myJobs) {
-            List<JobApplication> apps = DataManager.getInstance().getApplicationsForJob(job.getId());
-            for (JobApplication app : apps) {
-                appsModel.addRow(new Object[] { job.getTitle(), app.getApplicantUsername(), app.getStatus() });
-            }
+            myJobIds.add(job.getId());
+        }
+        appsModel.setSource((offset, limit) -> DataManager.getInstance().getApplicationsForJobs(myJobIds, offset, limit));
+    }
+
+    private static Object applicationCell(JobApplication app, int column) {
+        switch (column) {
+            case 0: return app.getJob().getTitle();
+            case 1: return app.getApplicantUsername();
+            default: return app.getStatus();
         }
     }
 
     private void moveState() {
-        int row = appsTable.getSelectedRow();
-        if (row == -1)
+        JobApplication app = appsModel.getRow(appsTable.getSelectedRow());
+        if (app == null)
             return;
 
-        String jobTitle = (String) appsModel.getValueAt(row, 0);
-        String applicant = (String) appsModel.getValueAt(row, 1);
-
-        List<JobApplication> allApps = DataManager.getInstance().getApplicationsByUser(applicant);
-        for (JobApplication app : allApps) {
-            if (app.getJob().getTitle().equals(jobTitle)) {
-                app.next();
-                break;
-            }
-        }
-        refreshApps();
+        DataManager.getInstance().advanceApplication(app.getId());
     }
 
     private void rejectApplication() {
-        int row = appsTable.getSelectedRow();
-        if (row == -1)
+        JobApplication app = appsModel.getRow(appsTable.getSelectedRow());
+        if (app == null)
             return;
 
-        String jobTitle = (String) appsModel.getValueAt(row, 0);
-        String applicant = (String) appsModel.getValueAt(row, 1);
-
         int confirm = JOptionPane.showConfirmDialog(this,
                 "Are you sure you want to reject this application?",
                 "Confirm Rejection", JOptionPane.YES_NO_OPTION);
 
         if (confirm == JOptionPane.YES_OPTION) {
-            List<JobApplication> allApps = DataManager.getInstance().getApplicationsByUser(applicant);
-            for (JobApplication app : allApps) {
-                if (app.getJob().getTitle().equals(jobTitle)) {
-                    app.reject();
-                    break;
-                }
-            }
-            refreshApps();
+            DataManager.getInstance().rejectApplication(app.getId());
         }
     }
 
     private void viewResume() {
-        int row = appsTable.getSelectedRow();
-        if (row == -1)
+        JobApplication app = appsModel.getRow(appsTable.getSelectedRow());
+        if (app == null)
             return;
 
-        String jobTitle = (String) appsModel.getValueAt(row, 0);
-        String applicantName = (String) appsModel.getValueAt(row, 1);
-
-        JobApplication app = findApplication(jobTitle, applicantName);
-        if (app != null && app.getResumePath() != null) {
+        if (app.getResumePath() != null) {
             try {
-                Desktop.getDesktop().open(new java.io.File(app.getResumePath()));
+                ResumeAccessService access = DataManager.getInstance().getResumeAccess();
+                String path = app.getResumePath();
+                if (access.contentType(path).startsWith("text/")) {
+                    showResumePreview(access, path);
+                } else {
+                    Desktop.getDesktop().open(access.resolve(path).toFile());
+                }
             } catch (Exception e) {
                 JOptionPane.showMessageDialog(this, "Error opening resume: " + e.getMessage());
             }
@@ -356,90 +356,169 @@ public class CompanyPanel extends JPanel {
         }
     }
 
+    private void showResumePreview(ResumeAccessService access, String path) throws java.io.IOException {
+        long size = access.size(path);
+        if (size == 0) {
+            JOptionPane.showMessageDialog(this, "Resume is empty.");
+            return;
+        }
+        ByteRange range = ByteRange.parse("bytes=0-" + (RESUME_PREVIEW_BYTES - 1), size);
+        String text = java.nio.charset.StandardCharsets.UTF_8.decode(access.map(path, range)).toString();
+        if (range.getLength() < size) {
+            text += "\n\n... (" + (size - range.getLength()) + " more bytes)";
+        }
+        JTextArea area = new JTextArea(text, 25, 60);
+        area.setEditable(false);
+        area.setLineWrap(true);
+        JOptionPane.showMessageDialog(this, new JScrollPane(area), "Resume Preview", JOptionPane.PLAIN_MESSAGE);
+    }
+
     private void viewApplicantProfile() {
-        int row = appsTable.getSelectedRow();
-        if (row == -1)
+        JobApplication app = appsModel.getRow(appsTable.getSelectedRow());
+        if (app == null)
             return;
-        String applicantName = (String) appsModel.getValueAt(row, 1);
-        showUserProfile(applicantName);
+        showUserProfile(app.getApplicantUsername());
+    }
+
+    private void refreshMyJobs() {
+        jobsModel.setRowCount(0);
+        myJobs.clear();
+        for (Job j : DataManager.getInstance().getJobsByCompany(companyUsername)) {
+            myJobs.add(j);
+            jobsModel.addRow(jobRow(j));
+        }
     }
 
-    private JobApplication findApplication(String jobTitle, String applicantName) {
-        List<JobApplication> allApps = DataManager.getInstance().getApplicationsByUser(applicantName);
-        for (JobApplication app : allApps) {
-            if (app.getJob().getTitle().equals(jobTitle)) {
-                return app;
+    private static Object[] jobRow(Job job) {
+        return new Object[] { job.getTitle(), job.isActive() ? "Active" : "Paused" };
+    }
+
+    // Applies a batch of domain events as row-level changes; runs on the EDT
+    private void applyEvents(List<DomainEvent> batch) {
+        boolean reloadApplications = false;
+        for (DomainEvent event : batch) {
+            Job job = event.getJob();
+            if (!companyUsername.equals(job.getCompanyUsername())) {
+                continue;
+            }
+            int row = indexOfJob(job);
+            switch (event.getType()) {
+                case JOB_ADDED:
+                    if (row == -1) {
+                        myJobs.add(job);
+                        jobsModel.addRow(jobRow(job));
+                    }
+                    break;
+                case JOB_REMOVED:
+                    if (row != -1) {
+                        myJobs.remove(row);
+                        jobsModel.removeRow(row);
+                        reloadApplications = true;
+                    }
+                    break;
+                case JOB_UPDATED:
+                    if (row != -1) {
+                        Object[] values = jobRow(job);
+                        jobsModel.setValueAt(values[0], row, 0);
+                        jobsModel.setValueAt(values[1], row, 1);
+                    }
+                    appsModel.rowsUpdated(app -> app.getJob() == job);
+                    break;
+                case APPLICATION_ADDED:
+                    reloadApplications = true;
+                    break;
+                case STATE_CHANGED:
+                    JobApplication changed = event.getApplication();
+                    appsModel.rowsUpdated(app -> app == changed);
+                    break;
             }
         }
-        return null;
+        if (reloadApplications) {
+            // Added or dropped applications shift rows inside their job's block;
+            // re-page rather than work out the positions
+            refreshApps();
+        }
     }
 
-    private void refreshMyJobs() {
-        jobsModel.setRowCount(0);
-        User user = DataManager.getInstance().getCurrentUser();
-        List<Job> myJobs = DataManager.getInstance().getJobsByCompany(user.getUsername());
-        for (Job j : myJobs) {
-            jobsModel.addRow(new Object[] { j.getTitle(), j.isActive() ? "Active" : "Paused" });
+    private int indexOfJob(Job job) {
+        for (int i = 0; i < myJobs.size(); i++) {
+            if (myJobs.get(i) == job) {
+                return i;
+            }
         }
+        return -1;
     }
 
-    private void editJob() {
+    private Job selectedJob() {
         int row = myJobsTable.getSelectedRow();
-        if (row == -1)
-            return;
-        String jobTitle = (String) jobsModel.getValueAt(row, 0);
-        Job job = findJobByTitle(jobTitle);
+        return row == -1 || row >= myJobs.size() ? null : myJobs.get(row);
+    }
+
+    private void editJob() {
+        Job job = selectedJob();
         if (job != null) {
             String newTitle = JOptionPane.showInputDialog(this, "Enter new title:", job.getTitle());
             if (newTitle != null && !newTitle.isEmpty()) {
                 job.setTitle(newTitle);
-                refreshMyJobs();
             }
         }
     }
 
     private void toggleJobStatus() {
-        int row = myJobsTable.getSelectedRow();
-        if (row == -1)
-            return;
-        String jobTitle = (String) jobsModel.getValueAt(row, 0);
-        Job job = findJobByTitle(jobTitle);
+        Job job = selectedJob();
         if (job != null) {
             job.setActive(!job.isActive());
-            refreshMyJobs();
         }
     }
 
     private void removeJob() {
-        int row = myJobsTable.getSelectedRow();
-        if (row == -1)
+        Job job = selectedJob();
+        if (job == null)
             return;
-        String jobTitle = (String) jobsModel.getValueAt(row, 0);
-        Job job = findJobByTitle(jobTitle);
         int confirm = JOptionPane.showConfirmDialog(this, "Are you sure?", "Remove Job", JOptionPane.YES_NO_OPTION);
-        if (confirm == JOptionPane.YES_OPTION && job != null) {
+        if (confirm == JOptionPane.YES_OPTION) {
             DataManager.getInstance().removeJob(job.getId());
-            refreshMyJobs();
         }
     }
 
-    private Job findJobByTitle(String title) {
-        User user = DataManager.getInstance().getCurrentUser();
-        return DataManager.getInstance().getJobsByCompany(user.getUsername()).stream()
-                .filter(j -> j.getTitle().equals(title))
-                .findFirst().orElse(null);
+    private void showTopCandidates() {
+        Job job = selectedJob();
+        if (job == null)
+            return;
+        List<Match> matches = DataManager.getInstance().getTopCandidates(job.getId(), TOP_CANDIDATES);
+        if (matches.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "No indexed resumes match this job yet.");
+            return;
+        }
+        StringBuilder sb = new StringBuilder("Best matches for " + job.getTitle() + ":\n\n");
+        for (Match match : matches) {
+            sb.append(match).append("\n");
+        }
+        JOptionPane.showMessageDialog(this, sb.toString(), "Top Candidates", JOptionPane.INFORMATION_MESSAGE);
     }
 
     private void searchCandidates() {
         candidatesModel.setRowCount(0);
-        String query = candidateSearchField.getText().toLowerCase();
-        List<User> applicants = DataManager.getInstance().getAllApplicants();
-        for (User u : applicants) {
-            if (u.getUsername().toLowerCase().contains(query)
-                    || (u.getEmail() != null && u.getEmail().toLowerCase().contains(query))) {
+        candidateQuery = candidateSearchField.getText();
+        lastCandidate = null;
+        if (searchResumesBox.isSelected()) {
+            for (User u : DataManager.getInstance().searchResumes(candidateQuery)) {
                 candidatesModel.addRow(new Object[] { u.getUsername(), u.getEmail() });
             }
+            loadMoreCandidatesBtn.setEnabled(false);
+            return;
+        }
+        loadCandidatePage();
+    }
+
+    private void loadCandidatePage() {
+        Page<User> page = DataManager.getInstance().searchCandidates(
+                candidateQuery, lastCandidate, CANDIDATE_PAGE_SIZE);
+        for (User u : page.getItems()) {
+            candidatesModel.addRow(new Object[] { u.getUsername(), u.getEmail() });
+            lastCandidate = u.getUsername();
         }
+        loadMoreCandidatesBtn.setEnabled(page.hasNext());
     }
 
     private void viewCandidateProfile() {
@@ -451,10 +530,9 @@ public class CompanyPanel extends JPanel {
     }
 
     private void showUserProfile(String username) {
-        List<User> applicants = DataManager.getInstance().getAllApplicants();
-        User target = applicants.stream().filter(u -> u.getUsername().equals(username)).findFirst().orElse(null);
+        User target = DataManager.getInstance().getUser(username);
 
-        if (target != null) {
+        if (target instanceof Applicant) {
             Applicant app = (Applicant) target;
             String info = "Username: " + app.getUsername() + "\n" +
                     "Email: " + app.getEmail() + "\n" +
@@ -4,12 +4,15 @@ import com.jobsphere.core.*;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.concurrent.ExecutionException;
 
 public class LoginPanel extends JPanel {
     private MainFrame mainFrame;
     private JTextField userField;
     private JPasswordField passField;
     private JComboBox<String> roleCombo;
+    private JButton loginBtn;
+    private JButton registerBtn;
 
     public LoginPanel(MainFrame frame) {
         this.mainFrame = frame;
@@ -86,8 +89,8 @@ public class LoginPanel extends JPanel {
         JPanel btnPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 15, 0));
         btnPanel.setOpaque(false);
 
-        JButton loginBtn = new JButton("Login");
-        JButton registerBtn = new JButton("Register");
+        loginBtn = new JButton("Login");
+        registerBtn = new JButton("Register");
 
         styleButton(loginBtn, new Color(59, 130, 246), Color.WHITE);
         styleButton(registerBtn, new Color(180, 180, 180), Color.BLACK);
@@ -116,29 +119,54 @@ public class LoginPanel extends JPanel {
         btn.setCursor(new Cursor(Cursor.HAND_CURSOR));
     }
 
+    // Password hashing takes a noticeable fraction of a second, so both
+    // actions run on a worker thread with the buttons disabled meanwhile
     private void handleLogin() {
         String user = userField.getText();
         String pass = new String(passField.getPassword());
 
-        try {
-            User loggedInUser = DataManager.getInstance().login(user, pass);
-            if (loggedInUser != null) {
-                if (loggedInUser instanceof Applicant) {
-                    mainFrame.addCard(new ApplicantPanel(mainFrame), "APPLICANT");
-                    mainFrame.showCard("APPLICANT");
-                } else {
-                    mainFrame.addCard(new CompanyPanel(mainFrame), "COMPANY");
-                    mainFrame.showCard("COMPANY");
+        setButtonsEnabled(false);
+        new SwingWorker<User, Void>() {
+            @Override
+            protected User doInBackground() {
+                return DataManager.getInstance().login(user, pass);
+            }
+
+            @Override
+            protected void done() {
+                setButtonsEnabled(true);
+                try {
+                    User loggedInUser = get();
+                    if (loggedInUser != null) {
+                        if (loggedInUser instanceof Applicant) {
+                            mainFrame.addCard(new ApplicantPanel(mainFrame), "APPLICANT");
+                            mainFrame.showCard("APPLICANT");
+                        } else {
+                            mainFrame.addCard(new CompanyPanel(mainFrame), "COMPANY");
+                            mainFrame.showCard("COMPANY");
+                        }
+                    } else {
+                        JOptionPane.showMessageDialog(LoginPanel.this, "Invalid credentials", "Error",
+                                JOptionPane.ERROR_MESSAGE);
+                    }
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof LoginBlockedException) {
+                        JOptionPane.showMessageDialog(LoginPanel.this,
+                                "Account blocked!\nToo many failed login attempts.\nPlease try again later.",
+                                "Account Blocked",
+                                JOptionPane.WARNING_MESSAGE);
+                    } else if (e.getCause() instanceof SecurityException) {
+                        // e.g. the hashing pool is saturated or the session limit is reached
+                        JOptionPane.showMessageDialog(LoginPanel.this, e.getCause().getMessage(),
+                                "Login Unavailable", JOptionPane.WARNING_MESSAGE);
+                    } else {
+                        JOptionPane.showMessageDialog(LoginPanel.this, "Error: " + e.getCause().getMessage());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
                 }
-            } else {
-                JOptionPane.showMessageDialog(this, "Invalid credentials", "Error", JOptionPane.ERROR_MESSAGE);
             }
-        } catch (SecurityException e) {
-            JOptionPane.showMessageDialog(this,
-                    "Account blocked!\nToo many failed login attempts.\nPlease try again later.",
-                    "Account Blocked",
-                    JOptionPane.WARNING_MESSAGE);
-        }
+        }.execute();
     }
 
     private void handleRegister() {
@@ -151,12 +179,32 @@ public class LoginPanel extends JPanel {
             return;
         }
 
-        try {
-            User newUser = UserFactory.createUser(role, user, pass, user + "@example.com");
-            DataManager.getInstance().registerUser(newUser);
-            JOptionPane.showMessageDialog(this, "Registration Successful! Please Login.");
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, "Error: " + e.getMessage());
-        }
+        setButtonsEnabled(false);
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() {
+                User newUser = UserFactory.createUser(role, user, pass, user + "@example.com");
+                DataManager.getInstance().registerUser(newUser);
+                return null;
+            }
+
+            @Override
+            protected void done() {
+                setButtonsEnabled(true);
+                try {
+                    get();
+                    JOptionPane.showMessageDialog(LoginPanel.this, "Registration Successful! Please Login.");
+                } catch (ExecutionException e) {
+                    JOptionPane.showMessageDialog(LoginPanel.this, "Error: " + e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.execute();
+    }
+
+    private void setButtonsEnabled(boolean enabled) {
+        loginBtn.setEnabled(enabled);
+        registerBtn.setEnabled(enabled);
     }
 }
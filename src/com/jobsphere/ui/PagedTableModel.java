@@ -0,0 +1,153 @@
+package com.jobsphere.ui;
+
+import com.jobsphere.core.Page;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Table model that pulls rows from a paged query as the table asks for them,
+ * keeping only a few recently used pages in memory.
+ */
+public class PagedTableModel<T> extends AbstractTableModel {
+
+    public interface PageSource<T> {
+        Page<T> fetch(int offset, int limit);
+    }
+
+    public interface CellValue<T> {
+        Object get(T row, int column);
+    }
+
+    private static final int MAX_CACHED_PAGES = 8;
+
+    private final String[] columns;
+    private final int pageSize;
+    private final CellValue<T> cellValue;
+    private final Map<Integer, List<T>> pages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+            return size() > MAX_CACHED_PAGES;
+        }
+    };
+    private PageSource<T> source;
+    private int rowCount;
+
+    public PagedTableModel(String[] columns, int pageSize, CellValue<T> cellValue) {
+        this.columns = columns.clone();
+        this.pageSize = pageSize;
+        this.cellValue = cellValue;
+    }
+
+    public static <T> PageSource<T> listSource(List<T> rows) {
+        return (offset, limit) -> {
+            int from = Math.min(offset, rows.size());
+            int to = Math.min(from + limit, rows.size());
+            // A copy, not a subList view: the list grows and shrinks while pages are cached
+            return new Page<>(new ArrayList<>(rows.subList(from, to)), from, rows.size());
+        };
+    }
+
+    public void setSource(PageSource<T> source) {
+        this.source = source;
+        refresh();
+    }
+
+    /**
+     * Drops cached pages and re-reads the row count. Only the first page is
+     * loaded here; the rest are fetched when they scroll into view.
+     */
+    public void refresh() {
+        pages.clear();
+        rowCount = 0;
+        if (source != null) {
+            Page<T> first = source.fetch(0, pageSize);
+            pages.put(0, first.getItems());
+            rowCount = first.getTotal();
+        }
+        fireTableDataChanged();
+    }
+
+    /**
+     * Signals that the source has grown to {@code newRowCount} rows at its end.
+     */
+    public void rowsAppended(int newRowCount) {
+        if (newRowCount <= rowCount) {
+            return;
+        }
+        int first = rowCount;
+        // The cached tail page may have been fetched while still partial
+        pages.remove(first / pageSize);
+        rowCount = newRowCount;
+        fireTableRowsInserted(first, newRowCount - 1);
+    }
+
+    /**
+     * Signals that the row at {@code index} was removed from the source.
+     */
+    public void rowRemoved(int index) {
+        if (index < 0 || index >= rowCount) {
+            return;
+        }
+        // Every cached page from the removed row onwards has shifted
+        pages.keySet().removeIf(page -> page >= index / pageSize);
+        rowCount--;
+        fireTableRowsDeleted(index, index);
+    }
+
+    /**
+     * Repaints the cached rows whose object matches; rows that are not
+     * cached are read fresh when they scroll into view anyway.
+     */
+    public void rowsUpdated(Predicate<T> matches) {
+        for (Map.Entry<Integer, List<T>> page : pages.entrySet()) {
+            List<T> rows = page.getValue();
+            for (int i = 0; i < rows.size(); i++) {
+                if (matches.test(rows.get(i))) {
+                    int row = page.getKey() * pageSize + i;
+                    fireTableRowsUpdated(row, row);
+                }
+            }
+        }
+    }
+
+    public T getRow(int row) {
+        if (row < 0 || row >= rowCount || source == null) {
+            return null;
+        }
+        int pageIndex = row / pageSize;
+        List<T> page = pages.get(pageIndex);
+        if (page == null) {
+            page = source.fetch(pageIndex * pageSize, pageSize).getItems();
+            pages.put(pageIndex, page);
+        }
+        int index = row - pageIndex * pageSize;
+        // The source may have shrunk since the count was taken
+        return index < page.size() ? page.get(index) : null;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columns[column];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        T row = getRow(rowIndex);
+        return row == null ? null : cellValue.get(row, columnIndex);
+    }
+}
@@ -0,0 +1,113 @@
+package com.jobsphere.ui;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Runs searches on a background thread and streams filtered results back to
+ * the EDT in chunks. The filter sees a whole chunk at a time, so it can check
+ * membership in bulk. Starting a new search cancels the previous one; results
+ * from a superseded search are never published.
+ */
+public class SearchExecutor<T> {
+
+    public interface ResultSink<T> {
+        void begin();
+
+        void append(List<T> chunk);
+
+        void finished();
+    }
+
+    private final ResultSink<T> sink;
+    private final int chunkSize;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "job-search");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicLong generation = new AtomicLong();
+    private final Timer debounce;
+    private Supplier<List<T>> pendingSearch;
+    private UnaryOperator<List<T>> pendingFilter;
+    private Future<?> running;
+
+    public SearchExecutor(ResultSink<T> sink, int debounceMillis, int chunkSize) {
+        this.sink = sink;
+        this.chunkSize = chunkSize;
+        this.debounce = new Timer(debounceMillis, e -> submit(pendingSearch, pendingFilter));
+        this.debounce.setRepeats(false);
+    }
+
+    /**
+     * Runs the search once input has been quiet for the debounce delay.
+     * Must be called on the EDT.
+     */
+    public void schedule(Supplier<List<T>> search, UnaryOperator<List<T>> filter) {
+        pendingSearch = search;
+        pendingFilter = filter;
+        debounce.restart();
+    }
+
+    /**
+     * Runs the search immediately, superseding any pending or running one.
+     * Must be called on the EDT.
+     */
+    public void submit(Supplier<List<T>> search, UnaryOperator<List<T>> filter) {
+        debounce.stop();
+        long id = generation.incrementAndGet();
+        if (running != null) {
+            running.cancel(true);
+        }
+        running = worker.submit(() -> run(id, search, filter));
+    }
+
+    private void run(long id, Supplier<List<T>> search, UnaryOperator<List<T>> filter) {
+        List<T> results = search.get();
+        if (!isCurrent(id)) {
+            return;
+        }
+        publish(id, sink::begin);
+        List<T> chunk = new ArrayList<>(chunkSize);
+        for (T item : results) {
+            chunk.add(item);
+            if (chunk.size() == chunkSize) {
+                if (!isCurrent(id)) {
+                    return;
+                }
+                List<T> kept = filter.apply(chunk);
+                if (!kept.isEmpty()) {
+                    publish(id, () -> sink.append(kept));
+                }
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        List<T> last = chunk.isEmpty() ? chunk : filter.apply(chunk);
+        publish(id, () -> {
+            if (!last.isEmpty()) {
+                sink.append(last);
+            }
+            sink.finished();
+        });
+    }
+
+    private boolean isCurrent(long id) {
+        return generation.get() == id && !Thread.currentThread().isInterrupted();
+    }
+
+    private void publish(long id, Runnable update) {
+        // Re-checked on the EDT: a newer search may have started in between
+        SwingUtilities.invokeLater(() -> {
+            if (generation.get() == id) {
+                update.run();
+            }
+        });
+    }
+}